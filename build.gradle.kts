@@ -29,6 +29,16 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    // 로컬 캐시 (검증된 토큰 등)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // Hibernate 2차 캐시 (JCache API + Caffeine 구현, 설정: application.conf)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    // Hibernate 통계 → Micrometer 지표 (hibernate.*)
+    implementation("org.hibernate.orm:hibernate-micrometer")
 
     // JWT
     implementation("io.jsonwebtoken:jjwt-api:0.12.5")
@@ -50,9 +60,36 @@ dependencies {
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
+	testImplementation("org.testcontainers:junit-jupiter") // Redis 컨테이너 (Docker 없으면 해당 테스트 건너뜀)
+	testImplementation("org.awaitility:awaitility") // Pub/Sub 메시지 도착 대기
+	testImplementation("org.springframework.boot:spring-boot-testcontainers") // @ServiceConnection
+	testImplementation("org.testcontainers:postgresql") // 벤치마크용 PostgreSQL 컨테이너
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("benchmark") // 오래 걸리는 성능 측정은 ./gradlew benchmark로 따로 실행
+	}
+}
+
+// 성능 측정: ./gradlew benchmark (-Pbenchmark.users=1000000 처럼 크기 조절, 결과는 콘솔 출력)
+tasks.register<Test>("benchmark") {
+	description = "Runs @Tag(\"benchmark\") tests and prints their results."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	maxHeapSize = "2g"
+	systemProperties(project.properties.filterKeys { it.startsWith("benchmark.") })
+	testLogging {
+		showStandardStreams = true
+	}
+	outputs.upToDateWhen { false } // 매번 다시 측정
+}
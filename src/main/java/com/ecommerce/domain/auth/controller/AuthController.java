@@ -1,15 +1,19 @@
 package com.ecommerce.domain.auth.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ecommerce.domain.auth.dto.request.LoginRequest;
 import com.ecommerce.domain.auth.dto.request.SignUpRequest;
 import com.ecommerce.domain.auth.service.AuthService;
 import com.ecommerce.domain.user.dto.response.UserResponse;
 import com.ecommerce.global.common.response.ApiResponse;
+import com.ecommerce.global.security.jwt.JwtTokenDto;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +25,7 @@ import org.springframework.http.HttpStatus;
  * 
  * 엔드포인트:
  * - POST /api/auth/signup : 회원가입
- * - POST /api/auth/login : 로그인 (TODO)
+ * - POST /api/auth/login : 로그인
  * - POST /api/auth/logout : 로그아웃 (TODO)
  * - POST /api/auth/refresh : 토큰 재발급 (TODO)
  * 
@@ -65,4 +69,24 @@ public class AuthController {
         return ApiResponse.success("회원가입 성공", response);
     }
 
+    /**
+     * 로그인
+     * 
+     * POST /api/auth/login
+     * 
+     * 비밀번호 검증(BCrypt)은 해싱 전용 실행기에서 처리되고,
+     * 그동안 서블릿 스레드는 다른 요청을 처리합니다. (비동기 응답)
+     * 실행기가 가득 차면 503을 즉시 반환합니다.
+     * 
+     * @param request 로그인 요청 (이메일, 비밀번호)
+     * @return ApiResponse<JwtTokenDto>
+     */
+    @PostMapping("/login")
+    public CompletableFuture<ApiResponse<JwtTokenDto>> login(@Valid @RequestBody LoginRequest request) {
+        log.info("POST /api/auth/login - email: {}", request.getEmail());
+
+        return authService.login(request)
+                .thenApply(token -> ApiResponse.success("로그인 성공", token));
+    }
+
 }
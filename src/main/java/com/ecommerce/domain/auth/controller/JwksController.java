@@ -0,0 +1,48 @@
+package com.ecommerce.domain.auth.controller;
+
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ecommerce.global.security.jwt.JwtKeyHolder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWKS (JSON Web Key Set) 컨트롤러
+ * 
+ * 엔드포인트:
+ * - GET /.well-known/jwks.json : 토큰 검증용 공개키 목록
+ * 
+ * 다른 서비스, 엣지 노드는 이 공개키로 토큰을 직접 검증합니다.
+ * (비밀키 공유 없음, 토큰 헤더의 kid로 키 선택)
+ * 
+ * 응답 형식이 표준(RFC 7517)으로 정해져 있어서 ApiResponse로 감싸지 않습니다.
+ * HS256 모드에서는 빈 목록을 반환합니다.
+ * 
+ * 캐시 시간(JwtKeyHolder.JWKS_CACHE_MAX_AGE) 동안 새 키를 못 볼 수 있으므로
+ * JwtKeyHolder는 다음 키를 그보다 먼저 공개한 뒤에 서명에 사용합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyHolder jwtKeyHolder;
+
+    /**
+     * 공개키 목록 조회
+     * 
+     * GET /.well-known/jwks.json
+     * 
+     * @return {"keys": [JWK, ...]}
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JwtKeyHolder.JWKS_CACHE_MAX_AGE).cachePublic())
+                .body(jwtKeyHolder.getJwks());
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비밀번호 변경 요청 DTO
+ * 
+ * 현재 비밀번호는 형식을 검증하지 않습니다. (정책이 바뀌기 전에 가입한 사용자)
+ * 새 비밀번호는 회원가입과 같은 규칙을 따릅니다. (SignUpRequest.password)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangePasswordRequest {
+
+    @NotBlank(message = "현재 비밀번호를 입력해주세요")
+    private String currentPassword;
+
+    @NotBlank(message = "새 비밀번호를 입력해주세요")
+    @Size(min = 8, max = 20, message = "비밀번호는 8자 이상 20자 이하여야 합니다")
+    @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]+$", message = "비밀번호는 대문자, 소문자, 숫자, 특수문자를 각각 1개 이상 포함해야 합니다")
+    private String newPassword;
+}
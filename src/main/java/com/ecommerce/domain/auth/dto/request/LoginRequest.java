@@ -0,0 +1,29 @@
+package com.ecommerce.domain.auth.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인 요청 DTO
+ * 
+ * 비밀번호 형식(대소문자, 특수문자 등)은 검증하지 않습니다.
+ * - 정책이 바뀌기 전에 가입한 사용자도 로그인할 수 있어야 함
+ * - 형식 오류 메시지로 힌트를 주지 않음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginRequest {
+
+    @NotBlank(message = "이메일을 입력해주세요")
+    @Email(message = "올바른 이메일 형식이 아닙니다")
+    private String email;
+
+    @NotBlank(message = "비밀번호를 입력해주세요")
+    private String password;
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.domain.auth.dto.request;
 
+import com.ecommerce.domain.user.entity.Role;
 import com.ecommerce.domain.user.entity.User;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -126,12 +127,12 @@ public class SignUpRequest {
                 .email(this.email)
                 .password(encodedPassword) // 암호화된 비밀번호
                 .name(this.name)
+                .role(Role.USER) // users.role은 NOT NULL, 가입 시에는 항상 일반 회원
                 .build();
 
         // 설정 안 하는 것들:
         // - id: DB가 자동 생성 (@GeneratedValue)
         // - publicId: User 엔티티 생성 시 자동 생성 (@PrePersist)
-        // - role: User 엔티티에서 기본값 설정 (ROLE_USER)
         // - deleted: User 엔티티에서 기본값 false
         // - createdAt: @CreatedDate가 자동 설정
         // - updatedAt: @LastModifiedDate가 자동 설정
@@ -0,0 +1,17 @@
+package com.ecommerce.domain.auth.exception;
+
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+
+/**
+ * 로그인 시 이메일 또는 비밀번호가 틀렸을 때 발생하는 예외
+ * 
+ * 사용자 존재 여부를 노출하지 않도록
+ * 이메일 오류와 비밀번호 오류를 구분하지 않습니다.
+ */
+public class InvalidCredentialsException extends BusinessException {
+
+    public InvalidCredentialsException() {
+        super(ErrorCode.AUTH_INVALID_CREDENTIALS);
+    }
+}
@@ -1,14 +1,45 @@
 package com.ecommerce.domain.auth.service;
 
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.ecommerce.domain.auth.dto.request.ChangePasswordRequest;
+import com.ecommerce.domain.auth.dto.request.LoginRequest;
 import com.ecommerce.domain.auth.dto.request.SignUpRequest;
 import com.ecommerce.domain.auth.exception.DuplicateEmailException;
+import com.ecommerce.domain.auth.exception.InvalidCredentialsException;
 import com.ecommerce.domain.user.dto.response.UserResponse;
 import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.exception.InvalidPasswordException;
+import com.ecommerce.domain.user.exception.UserNotFoundException;
 import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.domain.user.service.UserService;
+import com.ecommerce.global.config.LoginExecutorConfig;
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+import com.ecommerce.global.security.jwt.JwtTokenDto;
+import com.ecommerce.global.security.jwt.JwtTokenProvider;
+import com.ecommerce.global.security.jwt.TokenRevocationService;
+import com.ecommerce.global.security.password.PasswordHashingExecutor;
+import com.ecommerce.global.security.userdetails.CustomUserDetails;
+import com.ecommerce.global.security.userdetails.CustomUserDetailsService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,38 +51,282 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserService userService;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenRevocationService tokenRevocationService;
+    // 해싱 이후 단계(Redis, DB 조회/저장) 전용 실행기 (대기열 크기 제한, 가득 차면 503)
+    @Qualifier(LoginExecutorConfig.POST_HASH_EXECUTOR)
+    private final Executor postHashExecutor;
+
+    // 존재하지 않는 이메일도 같은 시간만큼 해싱하기 위한 더미 해시 (최초 사용 시 생성)
+    private volatile String dummyPasswordHash;
 
     /**
      * 회원가입
      * 
+     * BCrypt 해싱(~100ms)은 트랜잭션 밖에서 먼저 끝냅니다.
+     * - 트랜잭션 안에서 해싱하면 그동안 DB 커넥션을 잡고 CPU만 기다림
+     * - 가입이 몰리면 커넥션 풀(10개)이 해싱 대기로 바닥남
+     * → 트랜잭션은 "중복 체크 + INSERT"만 (커넥션 점유 수 ms)
+     * 
      * @param request 회원가입 요청 DTO
      * @return 생성된 사용자 정보
      * @throws DuplicateEmailException 이메일이 중복된 경우
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signUp(SignUpRequest request) {
         log.info("회원가입 시도 : email={}", request.getEmail());
 
-        // 1. 이메일 중복 체크
-        if (userRepository.existsByEmailAndDeletedFalse(request.getEmail())) {
-            log.warn("이메일 중복 : {}", request.getEmail());
-            throw new DuplicateEmailException("이미 사용중인 이메일입니다.");
-        }
-
-        // 2. 비밀번호 암호화
+        // 1. 비밀번호 암호화 (커넥션 없이)
         String encodedPassword = passwordEncoder.encode(request.getPassword());
         log.debug("비밀번호 암호화 완료");
 
-        // 3. User 엔티티 생성
-        User user = request.toEntity(encodedPassword);
-
-        // 4. DB저장 (publicId는 @PrePersist에서 자동 생성)
-        User savedUser = userRepository.save(user);
+        // 2. 중복 체크 + 저장 (트랜잭션)
+        User savedUser = transactionTemplate.execute(status -> insertUser(request, encodedPassword));
+        emailBloomFilter.add(savedUser.getEmail());
 
         log.info("회원가입 성공: userId={} email={}", savedUser.getId(), savedUser.getEmail());
 
-        // 4. Entity -> DTO 변환 후 반환
+        // 3. Entity -> DTO 변환 후 반환
         return UserResponse.from(savedUser);
     }
 
+    /**
+     * 중복 체크 + INSERT (트랜잭션 안에서 호출)
+     */
+    private User insertUser(SignUpRequest request, String encodedPassword) {
+        // 1. 이메일 중복 체크 (Bloom Filter에서 확실히 없다고 하면 쿼리 생략)
+        if (emailBloomFilter.mightContain(request.getEmail())) {
+            if (userRepository.existsByEmailAndDeletedFalse(request.getEmail())) {
+                log.warn("이메일 중복 : {}", request.getEmail());
+                throw new DuplicateEmailException("이미 사용중인 이메일입니다.");
+            }
+            emailBloomFilter.recordFalsePositive();
+        }
+
+        // 2. User 엔티티 생성
+        User user = request.toEntity(encodedPassword);
+
+        // 3. DB저장 (publicId는 @PrePersist에서 자동 생성)
+        // 쿼리를 생략했거나 동시에 가입한 경우 unique 제약이 최종 방어선
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (!isEmailConflict(e)) {
+                throw e; // 다른 제약 위반(NOT NULL, 길이 등)은 중복으로 숨기지 않음 → 500
+            }
+            log.warn("이메일 중복 (unique 제약) : {}", request.getEmail());
+            throw new DuplicateEmailException("이미 사용중인 이메일입니다.");
+        }
+    }
+
+    /**
+     * users.email unique 제약(User.EMAIL_UNIQUE_CONSTRAINT) 위반인지 확인
+     * 
+     * DB마다 제약 이름 표기가 다름 (PostgreSQL: uk_users_email, H2: PUBLIC.UK_USERS_EMAIL_INDEX_4 ...)
+     * → 대소문자 무시하고 이름이 포함되어 있는지로 판단
+     * 제약 이름을 알 수 없으면 중복으로 보지 않음
+     */
+    private static boolean isEmailConflict(DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException violation)
+                || violation.getKind() != ConstraintViolationException.ConstraintKind.UNIQUE
+                || violation.getConstraintName() == null) {
+            return false;
+        }
+        return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    /**
+     * 로그인
+     * 
+     * 1. 이메일로 사용자 조회 (CustomUserDetailsService)
+     * 2. 비밀번호 검증 (BCrypt) → 해싱 전용 실행기에서 실행
+     *    - 서블릿 스레드는 결과를 기다리지 않고 반환됨
+     *    - 실행기가 가득 차면 즉시 503
+     * 3. 저장된 해시의 cost가 현재 정책보다 낮으면 다시 해시해서 저장
+     * 4. JWT 토큰 발급
+     * 
+     * 3, 4는 Redis/DB 왕복이 있으므로 해싱 실행기가 아닌 해싱 이후 단계 전용 실행기에서 실행합니다.
+     * (해싱 스레드가 I/O를 기다리면 해싱 처리량이 줄고 로그인 폭주 시 503이 더 일찍 남)
+     * 이 실행기도 대기열이 가득 차면 즉시 503입니다. (LoginExecutorConfig)
+     * 
+     * 트랜잭션 없음: 사용자 조회는 Repository의 읽기 전용 트랜잭션으로 끝나고,
+     * 해싱 / 토큰 발급 동안 커넥션을 잡고 있을 이유가 없음
+     * 
+     * 존재하지 않는 이메일도 더미 해시와 비교해서
+     * 응답 시간으로 가입 여부를 알아낼 수 없게 합니다.
+     * 
+     * @param request 로그인 요청 DTO
+     * @return 발급된 토큰 (비동기)
+     * @throws InvalidCredentialsException 이메일 또는 비밀번호가 틀린 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<JwtTokenDto> login(LoginRequest request) {
+        log.info("로그인 시도 : email={}", request.getEmail());
+
+        // 1. 사용자 조회 (없으면 null)
+        UserDetails userDetails = findUserDetails(request.getEmail());
+
+        // 2. 비밀번호 검증 (해싱 전용 실행기)
+        return passwordHashingExecutor.submit(() -> verifyPassword(request.getPassword(), userDetails))
+                .thenCompose(matched -> afterHash(() -> {
+                    if (!matched) {
+                        log.warn("로그인 실패 : email={}", request.getEmail());
+                        throw new InvalidCredentialsException();
+                    }
+
+                    // 3. 해시 정책이 바뀌었으면 새 cost로 다시 저장 (응답과 별개로 실행)
+                    upgradePasswordHashIfNeeded(request.getPassword(), (CustomUserDetails) userDetails);
+
+                    // 4. 토큰 발급 (sub = publicId)
+                    Authentication authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    JwtTokenDto token = jwtTokenProvider.generateToken(authentication);
+
+                    log.info("로그인 성공 : userId={}", userDetails.getUsername());
+                    return token;
+                }));
+    }
+
+    /**
+     * 비밀번호 변경
+     * 
+     * 1. 현재 비밀번호 확인 + 새 비밀번호 해싱 → 로그인과 같은 해싱 전용 실행기에서 실행
+     *    - 서블릿 스레드는 결과를 기다리지 않고 반환됨
+     *    - 실행기가 가득 차면 즉시 503
+     * 2. 저장 (검증에 쓴 해시가 그대로일 때만)
+     * 3. 토큰 버전을 올려 모든 기기의 기존 토큰 무효화 (이 요청의 토큰 포함 → 다시 로그인)
+     * 
+     * 2, 3은 로그인처럼 해싱 이후 단계 전용 실행기에서 실행합니다.
+     * 
+     * @param publicId 현재 사용자 공개 ID
+     * @param request  현재 비밀번호, 새 비밀번호
+     * @return 완료 (비동기)
+     * @throws UserNotFoundException     사용자가 없거나 탈퇴한 경우
+     * @throws InvalidPasswordException 현재 비밀번호가 틀린 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> changePassword(String publicId, ChangePasswordRequest request) {
+        User user = userRepository.findByPublicIdAndDeletedFalse(publicId)
+                .orElseThrow(UserNotFoundException::new);
+        Long userId = user.getId();
+        String currentHash = user.getPassword();
+
+        // 1. 현재 비밀번호 확인 + 새 비밀번호 해싱 (틀리면 새 해시를 만들지 않고 null)
+        return passwordHashingExecutor.submit(() -> passwordEncoder.matches(request.getCurrentPassword(), currentHash)
+                        ? passwordEncoder.encode(request.getNewPassword())
+                        : null)
+                .thenCompose(newHash -> afterHash(() -> {
+                    if (newHash == null) {
+                        log.warn("비밀번호 변경 실패 (현재 비밀번호 불일치): userId={}", userId);
+                        throw new InvalidPasswordException();
+                    }
+
+                    // 2. 저장
+                    if (!userService.changePassword(userId, currentHash, newHash)) {
+                        // 확인과 저장 사이에 다른 요청이 먼저 비밀번호를 바꿈
+                        throw new InvalidPasswordException();
+                    }
+
+                    // 3. 모든 세션 폐기
+                    tokenRevocationService.revokeAllSessions(publicId);
+                    return null;
+                }));
+    }
+
+    /**
+     * 모든 기기에서 로그아웃
+     * 
+     * 토큰 버전만 올리므로 로그인한 기기 수와 상관없이 Redis 쓰기 몇 번으로 끝납니다.
+     * 
+     * @param publicId 현재 사용자 공개 ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logoutAll(String publicId) {
+        tokenRevocationService.revokeAllSessions(publicId);
+    }
+
+    /**
+     * 해싱 이후 단계를 전용 실행기에서 실행
+     * 
+     * thenApplyAsync(.., executor)는 실행기가 작업을 거절하면 예외가 결과로 전달되지 않아
+     * 응답이 끝나지 않으므로, 거절을 직접 잡아 503(COMMON_SERVICE_UNAVAILABLE)으로 끝냅니다.
+     */
+    private <T> CompletableFuture<T> afterHash(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, postHashExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("해싱 후처리 대기열 초과: {}", e.getMessage()); // 건수는 login.post_hash.rejected 지표
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.COMMON_SERVICE_UNAVAILABLE));
+        }
+    }
+
+    /**
+     * 이메일로 UserDetails 조회 (없으면 null)
+     */
+    private UserDetails findUserDetails(String email) {
+        try {
+            return customUserDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 비밀번호 비교 (해싱 전용 실행기 안에서 실행)
+     * 
+     * 사용자가 없어도 같은 비용의 해싱을 수행하고 false를 반환합니다.
+     */
+    private boolean verifyPassword(String rawPassword, UserDetails userDetails) {
+        if (userDetails == null) {
+            passwordEncoder.matches(rawPassword, dummyPasswordHash());
+            return false;
+        }
+        return passwordEncoder.matches(rawPassword, userDetails.getPassword());
+    }
+
+    /**
+     * 비밀번호 해시 업그레이드 (rehash-on-login)
+     * 
+     * 평문 비밀번호는 로그인 순간에만 알 수 있으므로 이때 새 정책으로 다시 해시합니다.
+     * 해싱 실행기가 바쁘면 이번에는 건너뛰고 다음 로그인 때 다시 시도합니다.
+     */
+    private void upgradePasswordHashIfNeeded(String rawPassword, CustomUserDetails userDetails) {
+        String currentHash = userDetails.getPassword();
+        if (!passwordEncoder.upgradeEncoding(currentHash)) {
+            return;
+        }
+
+        Long userId = userDetails.getUser().getId();
+        try {
+            passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword))
+                    .thenCompose(newHash -> afterHash(() -> {
+                        userService.upgradePasswordHash(userId, currentHash, newHash);
+                        return null;
+                    }))
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 해시 업그레이드 실패: userId={}, error={}", userId, e.getMessage());
+                        return null;
+                    });
+        } catch (BusinessException e) {
+            log.debug("해싱 실행기가 바빠 해시 업그레이드를 다음 로그인으로 미룹니다: userId={}", userId);
+        }
+    }
+
+    /**
+     * 더미 해시 (해싱 전용 실행기 안에서만 호출)
+     */
+    private String dummyPasswordHash() {
+        String hash = dummyPasswordHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyPasswordHash = hash;
+        }
+        return hash;
+    }
+
 }
@@ -0,0 +1,223 @@
+package com.ecommerce.domain.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.domain.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 이메일 Bloom Filter
+ *
+ * 왜 필요한가?
+ * - 회원가입마다 existsByEmailAndDeletedFalse() 쿼리 1번 (DB 왕복)
+ * - 봇이 무작위 이메일로 가입을 두드리면 대부분 "없음" 결과를 위해 DB를 조회
+ *
+ * 동작 방식:
+ * - mightContain(email) == false → 확실히 없음 → 존재 여부 쿼리 생략
+ * - mightContain(email) == true  → 있을 수도 있음 → 기존처럼 쿼리
+ * - 오탐(false positive)은 있어도 미탐(false negative)은 없음
+ *
+ * 구성:
+ * - 시작 시 users 테이블 이메일을 스트리밍으로 읽어 재구성 (메모리에 목록을 올리지 않음)
+ * - 재구성이 끝나기 전에는 항상 "있을 수도 있음" (기존 동작과 동일)
+ * - 가입 성공 시 add()로 추가
+ *
+ * 다른 서버에서 가입한 이메일은 이 서버의 필터에 없을 수 있습니다.
+ * → 쿼리를 건너뛰어도 users.email unique 제약이 최종적으로 중복을 막음
+ *
+ * 지표:
+ * - signup.email_filter{result=definite_miss}: 쿼리를 생략한 횟수
+ * - signup.email_filter{result=maybe}: 쿼리를 실행한 횟수
+ * - signup.email_filter.false_positive: "있을 수도 있음"이었지만 실제로는 없던 횟수
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 사용 중인 필터 (재구성 전에는 null → 항상 "있을 수도 있음")
+    private volatile BloomFilter filter;
+    // 재구성 중인 필터 (재구성 중 가입한 이메일도 빠지지 않도록 양쪽에 추가)
+    private volatile BloomFilter building;
+
+    private final Counter definiteMisses;
+    private final Counter maybes;
+    private final Counter falsePositives;
+
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${signup.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${signup.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.definiteMisses = Counter.builder("signup.email_filter")
+                .tag("result", "definite_miss")
+                .description("이메일 존재 여부 쿼리를 생략한 횟수")
+                .register(meterRegistry);
+        this.maybes = Counter.builder("signup.email_filter")
+                .tag("result", "maybe")
+                .description("이메일 존재 여부 쿼리를 실행한 횟수")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("signup.email_filter.false_positive")
+                .description("필터는 있을 수도 있다고 했지만 실제로는 없던 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 users 테이블로 필터 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        // 실제 사용자 수가 예상보다 많으면 오탐률이 올라가지 않도록 여유 있게 잡음
+        long userCount = userRepository.count();
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, userCount * 2), falsePositiveRate);
+        building = next;
+
+        long loaded = transactionTemplate.execute(status -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                return emails.peek(next::put).count();
+            }
+        });
+
+        filter = next;
+        building = null;
+        log.info("이메일 Bloom Filter 재구성 완료: emails={}, bits={}, hashes={}, {}ms",
+                loaded, next.bitSize(), next.hashCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 이미 가입된 이메일일 가능성이 있는지
+     *
+     * @param email 이메일
+     * @return false면 확실히 없음, true면 DB 확인 필요
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(email)) {
+            definiteMisses.increment();
+            return false;
+        }
+        maybes.increment();
+        return true;
+    }
+
+    /**
+     * "있을 수도 있음" 판정 후 DB 조회 결과가 "없음"이었을 때 호출 (오탐률 측정용)
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * 가입된 이메일 추가
+     *
+     * @param email 이메일
+     */
+    public void add(String email) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(email);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(email);
+        }
+    }
+
+    /**
+     * Bloom Filter (비트 배열 + 해시 k개)
+     *
+     * - 비트 수 m = -n·ln(p) / (ln2)²
+     * - 해시 수 k = m/n · ln2
+     * - 해시 k개는 64bit 해시 2개를 조합해서 만듦 (h1 + i·h2)
+     * - 비트 설정은 AtomicLongArray로 락 없이 처리
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+            this.words = new AtomicLongArray(wordCount);
+            this.bitSize = (long) wordCount * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        }
+
+        void put(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1; // 홀수로 만들어 모든 비트를 돌 수 있게
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = words.get(index);
+                while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    word = words.get(index);
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitSize);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long bitSize() {
+            return bitSize;
+        }
+
+        int hashCount() {
+            return hashCount;
+        }
+
+        /**
+         * FNV-1a 64bit + 마무리 섞기 (seed별로 다른 해시)
+         */
+        private static long hash(String value, long seed) {
+            long h = 0xCBF29CE484222325L ^ seed;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001B3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.ecommerce.domain.user.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ecommerce.domain.user.dto.request.AccessTokenRevokeRequest;
+import com.ecommerce.domain.user.dto.request.UserSessionRevokeRequest;
+import com.ecommerce.domain.user.dto.response.UserExportResponse;
+import com.ecommerce.domain.user.dto.response.UserImportResponse;
+import com.ecommerce.domain.user.dto.response.UserPageResponse;
+import com.ecommerce.domain.user.service.UserExportService;
+import com.ecommerce.domain.user.service.UserImportFormat;
+import com.ecommerce.domain.user.service.UserImportService;
+import com.ecommerce.domain.user.service.UserService;
+import com.ecommerce.global.common.response.ApiResponse;
+import com.ecommerce.global.security.jwt.TokenRevocationService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자용 사용자 컨트롤러
+ * 
+ * /api/admin/** 는 SecurityConfig에서 ADMIN 권한만 허용합니다.
+ * 
+ * 엔드포인트:
+ * - GET  /api/admin/users        : 사용자 목록 (keyset 페이지네이션)
+ * - GET  /api/admin/users/stream : 전체 사용자 NDJSON 스트리밍
+ * - POST /api/admin/users/import : 사용자 대량 가입 접수 (CSV / JSONL, 백그라운드 실행)
+ * - GET  /api/admin/users/import/{jobId} : 대량 가입 진행 상황
+ * - POST /api/admin/users/export : 전체 사용자 CSV 파일 내보내기
+ * - DELETE /api/admin/users/{publicId}/sessions   : 사용자 1명의 모든 세션 폐기
+ * - POST /api/admin/users/sessions/revoke         : 여러 사용자의 모든 세션 폐기 (정지 등)
+ * - POST /api/admin/users/refresh-tokens/revoke   : 여러 사용자의 Refresh Token만 폐기
+ * - POST /api/admin/users/access-tokens/revoke    : 유출된 Access Token 폐기
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * 사용자 목록 조회 (최근 가입 순)
+     * 
+     * GET /api/admin/users?size=50
+     * GET /api/admin/users?size=50&cursor={이전 응답의 nextCursor}
+     * 
+     * OFFSET 대신 커서로 페이지를 넘기므로 뒤 페이지도 첫 페이지와 같은 비용입니다.
+     * 
+     * @param cursor 다음 페이지 커서 (첫 페이지는 생략)
+     * @param size   페이지 크기 (기본 50, 최대 1000)
+     * @return 사용자 목록 + 다음 페이지 커서
+     */
+    @GetMapping
+    public ApiResponse<UserPageResponse> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("GET /api/admin/users - cursor: {}, size: {}", cursor, size);
+
+        UserPageResponse response = userService.findPage(cursor, size);
+
+        return ApiResponse.success("조회 성공", response);
+    }
+
+    /**
+     * 전체 사용자 NDJSON 스트리밍
+     * 
+     * GET /api/admin/users/stream
+     * Content-Type: application/x-ndjson (한 줄에 사용자 1명)
+     * 
+     * 응답을 모두 만든 뒤 보내지 않고 DB에서 읽는 대로 바로 씁니다.
+     * (서버 메모리 사용량은 사용자 수와 무관)
+     * 
+     * @param response HTTP 응답 (본문을 직접 씀)
+     * @throws IOException 출력 실패 (클라이언트 연결 끊김 등)
+     */
+    @GetMapping("/stream")
+    public void streamUsers(HttpServletResponse response) throws IOException {
+        log.info("GET /api/admin/users/stream");
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        long count = userService.writeAllAsNdjson(response.getOutputStream());
+
+        log.info("사용자 스트리밍 완료: count={}", count);
+    }
+
+    /**
+     * 사용자 대량 가입 접수
+     * 
+     * POST /api/admin/users/import?format=CSV&jobId=partner-2025-10
+     * Content-Type: text/csv (또는 application/x-ndjson)
+     * 
+     * 요청 본문을 서버에 저장한 뒤 바로 202와 jobId를 반환하고, 가입은 백그라운드에서 처리합니다.
+     * 진행 상황은 GET /api/admin/users/import/{jobId}로 확인합니다.
+     * 실패하면 같은 jobId로 같은 파일을 다시 보내면 이어서 처리합니다.
+     * 
+     * @param format 파일 형식 (기본 CSV)
+     * @param jobId  작업 ID (재개 시 필수, 없으면 새로 생성)
+     * @param body   파일 내용
+     * @return 접수 상태 (jobId, QUEUED)
+     */
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<UserImportResponse> importUsers(
+            @RequestParam(defaultValue = "CSV") UserImportFormat format,
+            @RequestParam(required = false) String jobId,
+            InputStream body) {
+        log.info("POST /api/admin/users/import - format: {}, jobId: {}", format, jobId);
+
+        UserImportResponse response = userImportService.submit(body, format, jobId);
+
+        return ApiResponse.success("대량 가입 접수", response);
+    }
+
+    /**
+     * 대량 가입 진행 상황
+     * 
+     * GET /api/admin/users/import/partner-2025-10
+     * 
+     * @param jobId 작업 ID
+     * @return 상태 (QUEUED / RUNNING / COMPLETED / FAILED)와 처리 건수
+     */
+    @GetMapping("/import/{jobId}")
+    public ApiResponse<UserImportResponse> getImportStatus(@PathVariable String jobId) {
+        log.info("GET /api/admin/users/import/{}", jobId);
+
+        UserImportResponse response = userImportService.getStatus(jobId);
+
+        return ApiResponse.success("조회 성공", response);
+    }
+
+    /**
+     * 전체 사용자 CSV 내보내기 (컴플라이언스, 마케팅 추출)
+     * 
+     * POST /api/admin/users/export?jobId=compliance-2025-10
+     * 
+     * 서버의 user-export.directory에 "users-{jobId}.csv" 파일을 만듭니다.
+     * 중간에 끊기면 같은 jobId로 다시 요청하면 이어서 씁니다.
+     * 
+     * @param jobId 작업 ID (재개 시 필수, 없으면 새로 생성)
+     * @return 처리 결과 (파일 경로, 내보낸 사용자 수)
+     */
+    @PostMapping("/export")
+    public ApiResponse<UserExportResponse> exportUsers(@RequestParam(required = false) String jobId) {
+        log.info("POST /api/admin/users/export - jobId: {}", jobId);
+
+        UserExportResponse response = userExportService.exportUsers(jobId);
+
+        return ApiResponse.success("내보내기 완료", response);
+    }
+
+    /**
+     * 사용자 1명의 모든 세션 폐기 (계정 탈취 대응 등)
+     * 
+     * DELETE /api/admin/users/{publicId}/sessions
+     * 
+     * 토큰 버전을 올려 이미 발급된 Access/Refresh Token을 모두 무효화합니다.
+     * 
+     * @param publicId 사용자 공개 ID
+     * @return 처리 결과
+     */
+    @DeleteMapping("/{publicId}/sessions")
+    public ApiResponse<Void> revokeUserSessions(@PathVariable String publicId) {
+        log.info("DELETE /api/admin/users/{}/sessions", publicId);
+
+        tokenRevocationService.revokeAllSessions(publicId);
+
+        return ApiResponse.success("세션 폐기 완료");
+    }
+
+    /**
+     * 여러 사용자의 모든 세션 일괄 폐기 (사용자 정지, 보안 사고 대응)
+     * 
+     * POST /api/admin/users/sessions/revoke
+     * 
+     * 1,000명 단위로 Redis 파이프라인에 묶어 처리합니다.
+     * 
+     * @param request 세션을 폐기할 publicId 목록
+     * @return 처리한 사용자 수
+     */
+    @PostMapping("/sessions/revoke")
+    public ApiResponse<Integer> revokeSessions(@Valid @RequestBody UserSessionRevokeRequest request) {
+        log.info("POST /api/admin/users/sessions/revoke - size: {}", request.getPublicIds().size());
+
+        tokenRevocationService.revokeAllSessions(request.getPublicIds());
+
+        return ApiResponse.success("세션 일괄 폐기 완료", request.getPublicIds().size());
+    }
+
+    /**
+     * 여러 사용자의 Refresh Token만 일괄 폐기 (자격 증명 교체)
+     * 
+     * POST /api/admin/users/refresh-tokens/revoke
+     * 
+     * 발급된 Access Token은 만료(최대 30분)까지 유효하고, 이후 재발급만 막습니다.
+     * 
+     * @param request Refresh Token을 폐기할 publicId 목록
+     * @return 실제로 삭제된 Refresh Token 수
+     */
+    @PostMapping("/refresh-tokens/revoke")
+    public ApiResponse<Long> revokeRefreshTokens(@Valid @RequestBody UserSessionRevokeRequest request) {
+        log.info("POST /api/admin/users/refresh-tokens/revoke - size: {}", request.getPublicIds().size());
+
+        long deleted = tokenRevocationService.revokeRefreshTokens(request.getPublicIds());
+
+        return ApiResponse.success("Refresh Token 일괄 폐기 완료", deleted);
+    }
+
+    /**
+     * 유출된 Access Token 일괄 폐기
+     * 
+     * POST /api/admin/users/access-tokens/revoke
+     * 
+     * 남은 유효 시간 동안 블랙리스트에 올립니다. (만료되었거나 잘못된 토큰은 건너뜀)
+     * 
+     * @param request 폐기할 Access Token 목록
+     * @return 블랙리스트에 등록된 토큰 수
+     */
+    @PostMapping("/access-tokens/revoke")
+    public ApiResponse<Long> revokeAccessTokens(@Valid @RequestBody AccessTokenRevokeRequest request) {
+        log.info("POST /api/admin/users/access-tokens/revoke - size: {}", request.getAccessTokens().size());
+
+        long revoked = tokenRevocationService.revokeAccessTokens(request.getAccessTokens());
+
+        return ApiResponse.success("Access Token 일괄 폐기 완료", revoked);
+    }
+}
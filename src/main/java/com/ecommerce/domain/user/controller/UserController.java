@@ -1,22 +1,37 @@
 package com.ecommerce.domain.user.controller;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ecommerce.domain.auth.dto.request.ChangePasswordRequest;
+import com.ecommerce.domain.auth.service.AuthService;
+import com.ecommerce.domain.user.dto.request.UserBatchLookupRequest;
+import com.ecommerce.domain.user.dto.response.UserLookupResponse;
 import com.ecommerce.domain.user.dto.response.UserResponse;
 import com.ecommerce.domain.user.service.UserService;
 import com.ecommerce.global.common.response.ApiResponse;
+import com.ecommerce.global.security.util.SecurityUtil;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
 /**
  * 사용자 컨트롤러
  * 
  * HTTP 요청을 받아 Service로 전달하고, 응답을 반환합니다.
+ * 
+ * /api/users/me/** 는 로그인한 사용자 본인에 대한 요청입니다.
+ * (/api/auth/** 는 인증 없이 열려 있으므로 본인 확인이 필요한 요청은 여기에 둠)
  */
 @Slf4j
 @RestController
@@ -25,6 +40,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class UserController {
 
     private final UserService userService;
+    private final AuthService authService;
 
     /**
      * publicId로 사용자 조회
@@ -59,4 +75,64 @@ public class UserController {
         return ApiResponse.success("조회 성공", response);
     }
 
+    /**
+     * 여러 사용자 일괄 조회 (주문 내역, 리뷰 목록 등)
+     * 
+     * POST /api/users/batch
+     * 
+     * 사용자마다 GET /api/users/{publicId}를 호출하는 대신 한 번에 조회합니다.
+     * - 최대 UserBatchLookupRequest.MAX_SIZE명
+     * - 요청 순서대로 반환, 찾지 못한 ID는 found=false
+     * 
+     * @param request 조회할 publicId 목록
+     * @return 사용자별 조회 결과
+     */
+    @PostMapping("/batch")
+    public ApiResponse<List<UserLookupResponse>> getUsersByPublicIds(@Valid @RequestBody UserBatchLookupRequest request) {
+        log.info("POST /api/users/batch: size={}", request.getPublicIds().size());
+
+        List<UserLookupResponse> response = userService.findAllByPublicIds(request.getPublicIds());
+
+        return ApiResponse.success("조회 성공", response);
+    }
+
+    /**
+     * 비밀번호 변경
+     * 
+     * PATCH /api/users/me/password
+     * 
+     * 변경 후 모든 기기의 토큰이 무효화되므로 이 기기도 다시 로그인해야 합니다.
+     * 비밀번호 확인 / 해싱은 로그인과 같은 해싱 전용 실행기에서 처리됩니다. (비동기 응답, 가득 차면 503)
+     * 
+     * @param request 현재 비밀번호, 새 비밀번호
+     * @return 처리 결과
+     */
+    @PatchMapping("/me/password")
+    public CompletableFuture<ApiResponse<Void>> changePassword(@Valid @RequestBody ChangePasswordRequest request) {
+        String publicId = SecurityUtil.getCurrentUserId();
+        log.info("PATCH /api/users/me/password - userId: {}", publicId);
+
+        return authService.changePassword(publicId, request)
+                .thenApply(done -> ApiResponse.success("비밀번호 변경 완료"));
+    }
+
+    /**
+     * 모든 기기에서 로그아웃
+     * 
+     * POST /api/users/me/logout-all
+     * 
+     * 지금까지 발급된 Access/Refresh Token이 모두 무효화됩니다. (이 기기 포함)
+     * 
+     * @return 처리 결과
+     */
+    @PostMapping("/me/logout-all")
+    public ApiResponse<Void> logoutAll() {
+        String publicId = SecurityUtil.getCurrentUserId();
+        log.info("POST /api/users/me/logout-all - userId: {}", publicId);
+
+        authService.logoutAll(publicId);
+
+        return ApiResponse.success("모든 기기에서 로그아웃 완료");
+    }
+
 }
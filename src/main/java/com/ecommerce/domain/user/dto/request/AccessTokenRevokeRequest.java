@@ -0,0 +1,35 @@
+package com.ecommerce.domain.user.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Access Token 일괄 폐기 요청 DTO (관리자, 유출된 토큰 대응)
+ * 
+ * 사용 예시:
+ * {
+ *   "accessTokens": ["eyJhbGciOi...", "eyJhbGciOi..."]
+ * }
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccessTokenRevokeRequest {
+
+    /**
+     * 한 번에 폐기할 수 있는 최대 토큰 수
+     */
+    public static final int MAX_SIZE = 100_000;
+
+    @NotEmpty(message = "폐기할 토큰을 입력해주세요")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 100000개까지 폐기할 수 있습니다")
+    private List<@NotBlank(message = "토큰은 비어 있을 수 없습니다") String> accessTokens;
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.domain.user.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 조회 요청 DTO
+ * 
+ * 사용 예시:
+ * {
+ *   "publicIds": ["0190a5b2-...", "0190a5b3-..."]
+ * }
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatchLookupRequest {
+
+    /**
+     * 한 번에 조회할 수 있는 최대 사용자 수
+     */
+    public static final int MAX_SIZE = 1_000;
+
+    @NotEmpty(message = "조회할 사용자 ID를 입력해주세요")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 1000명까지 조회할 수 있습니다")
+    private List<@NotBlank(message = "사용자 ID는 비어 있을 수 없습니다") String> publicIds;
+}
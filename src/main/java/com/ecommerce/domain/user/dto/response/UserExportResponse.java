@@ -0,0 +1,85 @@
+package com.ecommerce.domain.user.dto.response;
+
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 내보내기 결과 DTO
+ * 
+ * 같은 jobId로 재개한 경우 이전 실행분까지 합산된 값입니다.
+ * 
+ * 사용 예시:
+ * {
+ *   "jobId": "compliance-2025-10",
+ *   "file": "/tmp/user-exports/users-compliance-2025-10.csv",
+ *   "lastId": 1200345,
+ *   "exported": 1200000,
+ *   "fileSize": 183456789
+ * }
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserExportResponse {
+
+    /**
+     * 작업 ID (재개 시 같은 값으로 다시 요청)
+     */
+    private String jobId;
+
+    /**
+     * 출력 파일 경로 (서버 기준)
+     */
+    private String file;
+
+    /**
+     * 마지막으로 내보낸 사용자 ID
+     */
+    private long lastId;
+
+    /**
+     * 내보낸 사용자 수
+     */
+    private long exported;
+
+    /**
+     * 마지막 체크포인트 시점의 파일 크기 (byte)
+     */
+    private long fileSize;
+
+    /**
+     * 체크포인트(Redis Hash)에서 복원
+     * 
+     * @param jobId  작업 ID
+     * @param fields UserJobCheckpointRepository에 저장된 필드
+     */
+    public static UserExportResponse fromCheckpoint(String jobId, Map<String, String> fields) {
+        return UserExportResponse.builder()
+                .jobId(jobId)
+                .file(fields.get("file"))
+                .lastId(longValue(fields, "lastId"))
+                .exported(longValue(fields, "exported"))
+                .fileSize(longValue(fields, "fileSize"))
+                .build();
+    }
+
+    /**
+     * 체크포인트(Redis Hash) 필드로 변환
+     */
+    public Map<String, String> toCheckpoint() {
+        return Map.of(
+                "file", file,
+                "lastId", String.valueOf(lastId),
+                "exported", String.valueOf(exported),
+                "fileSize", String.valueOf(fileSize));
+    }
+
+    private static long longValue(Map<String, String> fields, String field) {
+        String value = fields.get(field);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.domain.user.dto.response;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ecommerce.domain.user.service.UserImportStatus;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 가입 진행 상황 / 결과 DTO
+ * 
+ * 같은 jobId로 재개한 경우 이전 실행분까지 합산된 값입니다.
+ * 
+ * 사용 예시:
+ * {
+ *   "jobId": "partner-2025-10",
+ *   "status": "RUNNING",
+ *   "lastLine": 1000001,
+ *   "imported": 998000,
+ *   "invalid": 1500,
+ *   "duplicate": 500
+ * }
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserImportResponse {
+
+    /**
+     * 작업 ID (재개 시 같은 값으로 다시 요청)
+     */
+    private String jobId;
+
+    /**
+     * 작업 상태
+     */
+    private UserImportStatus status;
+
+    /**
+     * 실패 사유 (FAILED일 때만)
+     */
+    private String error;
+
+    /**
+     * 마지막으로 처리 완료된 줄 번호
+     */
+    private long lastLine;
+
+    /**
+     * 저장된 사용자 수
+     */
+    private long imported;
+
+    /**
+     * 검증 실패 (형식 오류, SignUpRequest 규칙 위반)
+     */
+    private long invalid;
+
+    /**
+     * 이메일 중복 (파일 내 중복 + 이미 가입된 이메일)
+     */
+    private long duplicate;
+
+    /**
+     * 체크포인트(Redis Hash)에서 복원
+     * 
+     * @param jobId  작업 ID
+     * @param fields UserJobCheckpointRepository에 저장된 필드
+     */
+    public static UserImportResponse fromCheckpoint(String jobId, Map<String, String> fields) {
+        return UserImportResponse.builder()
+                .jobId(jobId)
+                .status(fields.containsKey("status") ? UserImportStatus.valueOf(fields.get("status")) : null)
+                .error(fields.getOrDefault("error", "").isEmpty() ? null : fields.get("error"))
+                .lastLine(longValue(fields, "lastLine"))
+                .imported(longValue(fields, "imported"))
+                .invalid(longValue(fields, "invalid"))
+                .duplicate(longValue(fields, "duplicate"))
+                .build();
+    }
+
+    /**
+     * 체크포인트(Redis Hash) 필드로 변환
+     * 
+     * error는 없으면 빈 문자열로 저장 (재실행 시 이전 실패 사유를 덮어쓰도록)
+     */
+    public Map<String, String> toCheckpoint() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", status.name());
+        fields.put("error", error != null ? error : "");
+        fields.put("lastLine", String.valueOf(lastLine));
+        fields.put("imported", String.valueOf(imported));
+        fields.put("invalid", String.valueOf(invalid));
+        fields.put("duplicate", String.valueOf(duplicate));
+        return fields;
+    }
+
+    private static long longValue(Map<String, String> fields, String field) {
+        String value = fields.get(field);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
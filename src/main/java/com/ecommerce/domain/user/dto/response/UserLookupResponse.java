@@ -0,0 +1,59 @@
+package com.ecommerce.domain.user.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 일괄 조회 결과 DTO (요청한 ID 1개당 1개)
+ * 
+ * 요청 순서 그대로 반환하고, 찾지 못한 ID는 found=false로 표시합니다.
+ * 
+ * 사용 예시:
+ * [
+ *   { "publicId": "0190a5b2-...", "found": true, "user": { "id": 1, ... } },
+ *   { "publicId": "0190a5b3-...", "found": false }
+ * ]
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserLookupResponse {
+
+    /**
+     * 요청한 사용자 공개 ID (요청 값 그대로)
+     */
+    private String publicId;
+
+    /**
+     * 찾았는지 여부 (없는 ID, 탈퇴한 사용자, 형식 오류는 false)
+     */
+    private boolean found;
+
+    /**
+     * 사용자 정보 (찾지 못했으면 null)
+     */
+    private UserResponse user;
+
+    /**
+     * 찾은 사용자
+     */
+    public static UserLookupResponse found(String publicId, UserResponse user) {
+        return UserLookupResponse.builder()
+            .publicId(publicId)
+            .found(true)
+            .user(user)
+            .build();
+    }
+
+    /**
+     * 찾지 못한 사용자
+     */
+    public static UserLookupResponse notFound(String publicId) {
+        return UserLookupResponse.builder()
+            .publicId(publicId)
+            .found(false)
+            .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.domain.user.dto.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 목록 페이지 DTO (keyset 페이지네이션)
+ * 
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨서 요청합니다.
+ * 
+ * 사용 예시:
+ * {
+ *   "users": [ { "id": 120, ... }, { "id": 119, ... } ],
+ *   "nextCursor": "MjAyNS0xMC0wM1QxNzozMDowMHwxMTk"
+ * }
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserPageResponse {
+
+    /**
+     * 사용자 목록 (최근 가입 순)
+     */
+    private List<UserResponse> users;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import com.ecommerce.domain.user.entity.Role;
 import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.service.UserSnapshot;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -75,5 +76,21 @@ public class UserResponse {
             .createdAt(user.getCreatedAt())
             .build();
     }
+
+    /**
+     * 캐시 스냅샷 → DTO 변환
+     * 
+     * @param user 사용자 스냅샷 (UserCache)
+     * @return UserResponse DTO
+     */
+    public static UserResponse from(UserSnapshot user) {
+        return UserResponse.builder()
+            .id(user.id())
+            .email(user.email())
+            .name(user.name())
+            .role(user.role())
+            .createdAt(user.createdAt())
+            .build();
+    }
     
 }
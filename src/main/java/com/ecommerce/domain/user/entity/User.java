@@ -1,8 +1,16 @@
 package com.ecommerce.domain.user.entity;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import com.ecommerce.domain.user.service.UserCacheInvalidationListener;
 import com.ecommerce.global.common.BaseEntity;
+import com.ecommerce.global.common.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,13 +22,27 @@ import lombok.*;
  * - updatedAt: 프로필 수정 시간
  * - deleted: 탈퇴 여부
  * - deletedAt: 탈퇴 시간
+ * 
+ * 수정/탈퇴/복구되면 UserCacheInvalidationListener가 사용자 캐시를 비웁니다.
+ * 
+ * Hibernate 2차 캐시 (리전 설정: application.conf):
+ * - 엔티티 (CACHE_REGION): findById, publicId 조회가 DB 대신 메모리에서 끝남
+ *   READ_WRITE라 updateName(), updatePassword(), delete() 등이 커밋되면 Hibernate가 캐시도 갱신
+ * - publicId → id (NATURAL_ID_CACHE_REGION): UserRepository.loadByPublicId()
  */
 @Entity
+@EntityListeners(UserCacheInvalidationListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @Table(
     name = "users", 
     indexes = {
         @Index(name = "idx_users_deleted", columnList = "deleted"),
-        @Index(name = "idx_users_created_at", columnList = "createdAt")
+        @Index(name = "idx_users_created_at", columnList = "createdAt, id") // keyset 페이지네이션 (UserRepository.findPageAfter)
+    },
+    uniqueConstraints = {
+        // 이름을 고정해야 가입 시 "이메일 중복" 위반만 골라낼 수 있음 (AuthService.insertUser)
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
     }
     )
 @Getter
@@ -28,21 +50,36 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class User extends BaseEntity {  // ← BaseEntity 상속!
+
+    public static final String CACHE_REGION = "user";
+    public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
     
+    /**
+     * 내부 ID (시퀀스 users_seq, pooled-lo)
+     * 
+     * IDENTITY를 쓰면 INSERT 배치가 꺼지므로 시퀀스로 미리 할당합니다.
+     * (BaseEntity.ID_ALLOCATION_SIZE 참고)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
-     * 외부 노출용 ID (UUID)
+     * 외부 노출용 ID (UUIDv7)
      * 
-     * - @PrePersist에서 자동 생성
+     * - @PrePersist에서 자동 생성 (시간순 UUID → 인덱스 끝에 순서대로 추가)
+     * - DB에는 native uuid 타입(16byte)으로 저장 (문자열 36byte 대비 인덱스 절반 이하)
+     * - 외부 API는 기존처럼 문자열 (getPublicId())
      * - Builder에서 명시적으로 지정도 가능 (테스트용)
+     * - 자연 키 (@NaturalId): 한 번 정해지면 바뀌지 않음 → publicId → id 매핑을 캐시할 수 있음
      */
-    @Column(unique = true, nullable = false, length = 36)
-    private String publicId;
+    @NaturalId
+    @Column(unique = true, nullable = false)
+    private UUID publicId;
     
-    @Column(unique = true, nullable = false, length = 100)
+    @Column(nullable = false, length = 100) // unique: @Table의 EMAIL_UNIQUE_CONSTRAINT
     private String email;
     
     @Column(nullable = false)
@@ -54,6 +91,17 @@ public class User extends BaseEntity {  // ← BaseEntity 상속!
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private Role role;
+
+    /**
+     * 마지막 활동 시간 (인증된 요청 기준)
+     * 
+     * - UserActivityTracker가 모아서 몇 초마다 UPDATE (요청마다 쓰지 않음)
+     * - JPA로는 쓰지 않음 (insertable/updatable = false)
+     *   → 이름 변경 등으로 엔티티를 저장할 때 2차 캐시에 있던 이전 값으로 덮어쓰지 않도록
+     * - 엔티티로 읽은 값은 2차 캐시 때문에 최신이 아닐 수 있음
+     */
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastActiveAt;
     
     /**
      * 저장 직전 자동 실행
@@ -63,9 +111,18 @@ public class User extends BaseEntity {  // ← BaseEntity 상속!
     @PrePersist
     public void prePersist() {
         if (this.publicId == null) {
-            this.publicId = UUID.randomUUID().toString();
+            this.publicId = UuidV7.generate();
         }
     }
+
+    /**
+     * 외부 노출용 ID (문자열)
+     * 
+     * JWT sub, CustomUserDetails.getUsername() 등 기존 문자열 API를 그대로 유지합니다.
+     */
+    public String getPublicId() {
+        return publicId != null ? publicId.toString() : null;
+    }
     
     // 비밀번호 변경
     public void updatePassword(String newPassword) {
@@ -0,0 +1,16 @@
+package com.ecommerce.domain.user.exception;
+
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+
+/**
+ * 비밀번호 변경 등 정보 수정 시 현재 비밀번호가 틀렸을 때 발생하는 예외
+ * 
+ * 로그인 실패는 InvalidCredentialsException을 사용합니다.
+ */
+public class InvalidPasswordException extends BusinessException {
+
+    public InvalidPasswordException() {
+        super(ErrorCode.USER_INVALID_PASSWORD);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.domain.user.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 마지막 활동 시간 일괄 UPDATE (JDBC 배치)
+ * 
+ * JPA(엔티티 수정, JPQL UPDATE)를 쓰지 않는 이유:
+ * - 엔티티 수정: 사용자마다 SELECT + 전체 컬럼 UPDATE, 2차 캐시/사용자 캐시 무효화까지 발생
+ * - JPQL UPDATE: 실행할 때마다 Hibernate가 User 2차 캐시 리전 전체를 비움
+ * → last_active_at 컬럼만 JDBC 배치로 직접 갱신 (User.lastActiveAt은 JPA로 쓰지 않는 컬럼)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityRepository {
+
+    // JDBC 배치 1번에 보낼 UPDATE 수
+    private static final int BATCH_SIZE = 500;
+
+    /*
+     * 이미 더 최근 값이 있으면 덮어쓰지 않음
+     * (여러 서버가 같은 사용자의 활동을 각자 flush할 수 있음)
+     */
+    private static final String UPDATE_LAST_ACTIVE_AT = """
+            UPDATE users SET last_active_at = ?
+            WHERE public_id = ? AND (last_active_at IS NULL OR last_active_at < ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 마지막 활동 시간 일괄 갱신 (트랜잭션 1개)
+     * 
+     * @param activities publicId → 마지막 활동 시간
+     */
+    @Transactional
+    public void updateLastActiveAt(Map<UUID, LocalDateTime> activities) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_ACTIVE_AT, activities.entrySet(), BATCH_SIZE, (ps, activity) -> {
+            Timestamp lastActiveAt = Timestamp.valueOf(activity.getValue());
+            ps.setTimestamp(1, lastActiveAt);
+            ps.setObject(2, activity.getKey());
+            ps.setTimestamp(3, lastActiveAt);
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.domain.user.repository;
+
+import java.util.List;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import com.ecommerce.domain.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 사용자 대량 INSERT (Hibernate JDBC 배치)
+ * 
+ * User.id가 시퀀스(pooled-lo)라서 Hibernate가 INSERT를 모아 배치로 보낼 수 있습니다.
+ * - ID: nextval 1번으로 50개 확보 (INSERT 전에 ID를 알 수 있음)
+ * - INSERT: hibernate.jdbc.batch_size(50)개씩 묶어서 전송
+ *   (PostgreSQL은 reWriteBatchedInserts=true로 다중 VALUES INSERT로 변환)
+ * 
+ * 영속성 컨텍스트가 커지지 않도록 BATCH_SIZE마다 flush + clear 합니다.
+ * Auditing(createdAt, updatedAt)은 persist 시점에 자동으로 채워집니다.
+ * 새 사용자는 2차 캐시에 넣지 않습니다. (대량 INSERT가 자주 쓰는 엔티티를 밀어내지 않도록)
+ */
+@Repository
+public class UserBulkInsertRepository {
+
+    // hibernate.jdbc.batch_size와 같게 유지
+    private static final int BATCH_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 사용자 일괄 저장
+     * 
+     * 트랜잭션 안에서 호출해야 청크 단위로 원자적으로 저장됩니다.
+     * 
+     * @param users 저장할 새 사용자 (id 없음, 암호화된 비밀번호, role 필수)
+     */
+    public void insertAll(List<User> users) {
+        // 커밋 후에 캐시에 넣으므로 트랜잭션이 끝날 때까지 유지 (청크 트랜잭션 전용 세션)
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+        for (int i = 0; i < users.size(); i++) {
+            entityManager.persist(users.get(i));
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
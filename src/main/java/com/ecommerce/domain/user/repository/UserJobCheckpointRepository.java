@@ -0,0 +1,126 @@
+package com.ecommerce.domain.user.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대량 작업 체크포인트 (Redis)
+ * 
+ * 대량 가입 / 내보내기가 청크를 끝낼 때마다 "어디까지 처리했는지"를 저장합니다.
+ * 중간에 끊겨도 같은 jobId로 다시 요청하면 마지막 체크포인트 다음부터 이어서 처리합니다.
+ * 
+ * 저장소는 작업 종류(key prefix)만 다르고 나머지는 같으므로 하나로 공유합니다.
+ * 어떤 필드를 저장할지는 각 작업의 응답 DTO가 정합니다.
+ * - UserImportResponse: status, error, lastLine, imported, invalid, duplicate
+ * - UserExportResponse: file, lastId, exported, fileSize
+ * 
+ * 같은 jobId를 여러 요청(서버)이 동시에 실행하지 않도록 작업 락도 여기서 관리합니다.
+ * - tryLock: SET NX + 만료 시간 (실행 중 서버가 죽어도 LOCK_TTL 뒤에 풀림)
+ * - extendLock / unlock: 자기 토큰일 때만 (만료 후 다른 요청이 잡은 락을 건드리지 않음)
+ * 
+ * Redis 구조:
+ * - Key: "{IMPORT|EXPORT}:{jobId}" (Hash), TTL 7일
+ * - Key: "{IMPORT|EXPORT}:{jobId}:lock" (String, 락 토큰), TTL LOCK_TTL
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJobCheckpointRepository {
+
+    private static final Duration TTL = Duration.ofDays(7);
+    // 청크 1개를 처리하는 시간보다 충분히 길게 (체크포인트마다 연장)
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private static final RedisScript<Long> EXTEND_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 작업 종류 (key prefix)
+     */
+    public enum Job {
+        IMPORT, EXPORT;
+
+        private String key(String jobId) {
+            return name() + ":" + jobId;
+        }
+
+        private String lockKey(String jobId) {
+            return key(jobId) + ":lock";
+        }
+    }
+
+    /**
+     * 체크포인트 조회
+     * 
+     * @param job   작업 종류
+     * @param jobId 작업 ID
+     * @return 마지막 체크포인트 필드 (없으면 empty)
+     */
+    public Optional<Map<String, String>> find(Job job, String jobId) {
+        Map<String, String> values = redisTemplate.<String, String>opsForHash().entries(job.key(jobId));
+        return values.isEmpty() ? Optional.empty() : Optional.of(values);
+    }
+
+    /**
+     * 체크포인트 저장
+     * 
+     * @param job    작업 종류
+     * @param jobId  작업 ID
+     * @param fields 현재까지의 진행 상황
+     */
+    public void save(Job job, String jobId, Map<String, String> fields) {
+        String key = job.key(jobId);
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, TTL);
+    }
+
+    /**
+     * 작업 락 획득
+     * 
+     * @param job   작업 종류
+     * @param jobId 작업 ID
+     * @param token 이 실행의 고유 토큰 (연장 / 해제 시 확인)
+     * @return 획득 여부 (같은 jobId가 실행 중이면 false)
+     */
+    public boolean tryLock(Job job, String jobId, String token) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(job.lockKey(jobId), token, LOCK_TTL));
+    }
+
+    /**
+     * 작업 락 만료 시간 연장 (체크포인트마다)
+     * 
+     * @return 아직 락을 갖고 있는지 (false면 만료되어 다른 요청이 가져갔을 수 있음)
+     */
+    public boolean extendLock(Job job, String jobId, String token) {
+        Long extended = redisTemplate.execute(EXTEND_LOCK_SCRIPT, List.of(job.lockKey(jobId)),
+                token, String.valueOf(LOCK_TTL.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
+    /**
+     * 작업 락 해제 (자기 토큰일 때만)
+     */
+    public void unlock(Job job, String jobId, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(job.lockKey(jobId)), token);
+    }
+}
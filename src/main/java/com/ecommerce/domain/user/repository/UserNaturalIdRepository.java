@@ -0,0 +1,26 @@
+package com.ecommerce.domain.user.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.ecommerce.domain.user.entity.User;
+
+/**
+ * 자연 키(publicId)로 사용자 조회 (Hibernate 2차 캐시 사용)
+ * 
+ * UserRepository에 섞어서 사용합니다. (구현: UserNaturalIdRepositoryImpl)
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * publicId로 사용자 조회 (탈퇴한 사용자 포함)
+     * 
+     * 2차 캐시에 있으면 쿼리를 실행하지 않습니다.
+     * - publicId → id: NATURAL_ID_CACHE_REGION
+     * - id → User: CACHE_REGION
+     * 
+     * @param publicId 사용자 공개 ID
+     * @return Optional<User>
+     */
+    Optional<User> loadByPublicId(UUID publicId);
+}
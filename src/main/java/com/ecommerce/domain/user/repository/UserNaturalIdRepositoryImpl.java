@@ -0,0 +1,47 @@
+package com.ecommerce.domain.user.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import com.ecommerce.domain.user.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+
+/**
+ * UserNaturalIdRepository 구현
+ * 
+ * Session.bySimpleNaturalId()로 조회합니다.
+ * (JPQL "where publicId = ?"는 2차 캐시를 거치지 않고 항상 쿼리를 실행함)
+ * 
+ * 트랜잭션이 없으면 짧은 EntityManager를 열어서 조회합니다.
+ * - 캐시 hit이면 커넥션을 받지 않음 (UserCache처럼 트랜잭션 없이 호출하는 곳)
+ * - 반환된 User는 준영속 상태 (수정하려면 트랜잭션 안에서 호출할 것)
+ */
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public Optional<User> loadByPublicId(UUID publicId) {
+        EntityManager transactional = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (transactional != null) {
+            return load(transactional, publicId);
+        }
+
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return load(entityManager, publicId);
+        }
+    }
+
+    private static Optional<User> load(EntityManager entityManager, UUID publicId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(publicId);
+    }
+}
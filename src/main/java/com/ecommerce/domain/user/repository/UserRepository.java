@@ -1,17 +1,63 @@
 package com.ecommerce.domain.user.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.service.UserSnapshot;
+import com.ecommerce.global.common.UuidV7;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+import jakarta.persistence.QueryHint;
+
+/**
+ * 사용자 Repository
+ * 
+ * 조회 메서드는 기본이 읽기 전용 트랜잭션(@Transactional(readOnly = true))입니다.
+ * - @Query 메서드는 Spring Data가 트랜잭션을 붙여 주지 않음
+ * - 트랜잭션 없이 호출하면 (UserCache miss, NOT_SUPPORTED 서비스 메서드)
+ *   LazyConnectionDataSourceProxy가 읽기 전용인지 알 수 없어 primary로 보냄
+ * → 인터페이스에 readOnly를 선언해서 단독 호출도 복제본으로 가게 함
+ * 
+ * 이미 트랜잭션 안에서 호출하면 그 트랜잭션에 참여합니다. (쓰기 트랜잭션이면 primary)
+ * save/delete 등 CRUD 메서드는 SimpleJpaRepository의 @Transactional이 그대로 적용됩니다.
+ */
+@Transactional(readOnly = true)
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
     /**
      * publicId로 사용자 찾기
+     * 
+     * 2차 캐시 miss일 때만 실행되는 쿼리:
+     * SELECT id FROM users WHERE public_id = ?  (publicId → id, 캐시 저장)
+     * SELECT * FROM users WHERE id = ?          (엔티티, 캐시 저장)
+     * 
+     * 탈퇴 여부는 캐시된 엔티티로 확인합니다. (deleted가 바뀌면 엔티티 캐시가 갱신됨)
      */
-    Optional<User> findByPublicIdAndDeletedFalse(String publicId);
+    default Optional<User> findByPublicIdAndDeletedFalse(UUID publicId) {
+        return loadByPublicId(publicId).filter(user -> !user.getDeleted());
+    }
+
+    /**
+     * publicId(문자열)로 사용자 찾기
+     * 
+     * UUID 형식이 아니면 DB를 조회하지 않고 empty를 반환합니다.
+     */
+    default Optional<User> findByPublicIdAndDeletedFalse(String publicId) {
+        return UuidV7.parse(publicId).flatMap(this::findByPublicIdAndDeletedFalse);
+    }
     
     /**
      * 이메일로 사용자 찾기
@@ -24,6 +70,46 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmailAndDeletedFalse(String email);
 
+    /**
+     * 이메일로 사용자 조회 (조회 API용 프로젝션)
+     * 
+     * 생성되는 쿼리:
+     * SELECT id, public_id, email, name, role, created_at
+     * FROM users WHERE email = ? AND deleted = false
+     * 
+     * 엔티티 조회(findByEmailAndDeletedFalse)와 차이:
+     * - 비밀번호 해시, updated_at, deleted, deleted_at 컬럼을 읽지 않음
+     * - 결과가 DTO라 영속성 컨텍스트에 등록되지 않음 (dirty checking 스냅샷 없음)
+     * → 비밀번호나 수정이 필요 없는 읽기 전용 조회에 사용
+     * 
+     * 이메일은 자연 키가 아니므로 (Hibernate는 엔티티당 자연 키 1개) 2차 캐시를 거치지 않습니다.
+     * 
+     * @param email 이메일
+     * @return Optional<UserSnapshot>
+     */
+    @Query("select new com.ecommerce.domain.user.service.UserSnapshot("
+            + "u.id, u.publicId, u.email, u.name, u.role, u.createdAt) "
+            + "from User u where u.email = :email and u.deleted = false")
+    Optional<UserSnapshot> findSnapshotByEmail(@Param("email") String email);
+
+    /**
+     * 여러 publicId로 사용자 조회 (일괄 조회 API용 프로젝션)
+     * 
+     * 생성되는 쿼리:
+     * SELECT id, public_id, email, name, role, created_at
+     * FROM users WHERE public_id IN (?, ?, ...) AND deleted = false
+     * 
+     * - IN 목록 크기는 호출하는 쪽에서 제한 (UserCache.findAllByPublicIds)
+     * - 결과 순서는 보장하지 않음
+     * 
+     * @param publicIds 사용자 공개 ID 목록
+     * @return 찾은 사용자 목록 (없거나 탈퇴한 사용자는 빠짐)
+     */
+    @Query("select new com.ecommerce.domain.user.service.UserSnapshot("
+            + "u.id, u.publicId, u.email, u.name, u.role, u.createdAt) "
+            + "from User u where u.publicId in :publicIds and u.deleted = false")
+    List<UserSnapshot> findSnapshotsByPublicIds(@Param("publicIds") Collection<UUID> publicIds);
+
     /**
      * 이메일 존재 여부 확인
      * 
@@ -35,5 +121,141 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmailAndDeletedFalse(String email);
 
-    
-} 
\ No newline at end of file
+    /**
+     * 이미 사용 중인 이메일 조회 (대량 가입 중복 제거용)
+     * 
+     * 생성되는 쿼리:
+     * SELECT email FROM users WHERE email IN (?, ?, ...)
+     * 
+     * - 탈퇴한 사용자 이메일도 포함 (unique 제약은 탈퇴 여부와 무관)
+     * 
+     * 복제본이 아닌 primary에서 읽음 (readOnly = false)
+     * - unique 제약에 걸린 직후 "어떤 이메일이 겹쳤는지" 다시 확인하는 용도라
+     *   복제 지연으로 방금 들어간 이메일을 못 보면 같은 INSERT를 또 시도하게 됨
+     * - 대량 가입은 파일 안 중복도 이 조회로 거름 (바로 앞 청크에서 방금 커밋한 이메일)
+     * 
+     * @param emails 확인할 이메일 목록 (청크 단위)
+     * @return 이미 존재하는 이메일 목록
+     */
+    @Transactional
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 비밀번호 해시 조건부 교체 (compare-and-set)
+     * 
+     * 생성되는 쿼리:
+     * UPDATE users SET password = ?, updated_at = ? WHERE id = ? AND password = ?
+     * 
+     * - 조회 → 비교 → 변경 감지로 나누면 두 요청이 모두 비교를 통과하고 나중 것이 덮어씀
+     *   (READ COMMITTED, 2차 캐시의 엔티티로 비교하는 경우도 있음)
+     * → 비교와 변경을 UPDATE 1번으로 처리, 0이면 그 사이 다른 요청이 먼저 바꾼 것
+     * - 벌크 UPDATE라 @LastModifiedDate가 적용되지 않으므로 updated_at을 직접 넘김
+     * - Hibernate가 User 2차 캐시 리전을 비움 (비밀번호 변경, 해시 업그레이드는 드묾)
+     * - UserCache(스냅샷)에는 비밀번호가 없으므로 무효화할 필요 없음
+     * 
+     * @param id          사용자 ID
+     * @param currentHash 검증에 사용한 해시
+     * @param newHash     새 해시
+     * @param updatedAt   수정 시각
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.password = :newHash, u.updatedAt = :updatedAt "
+            + "where u.id = :id and u.password = :currentHash")
+    int updatePasswordIfUnchanged(
+            @Param("id") Long id,
+            @Param("currentHash") String currentHash,
+            @Param("newHash") String newHash,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 전체 이메일 스트리밍 조회 (이메일 Bloom Filter 재구성용)
+     * 
+     * 생성되는 쿼리:
+     * SELECT email FROM users
+     * 
+     * - 탈퇴한 사용자 이메일도 포함 (unique 제약은 탈퇴 여부와 무관)
+     * - 전체를 메모리에 올리지 않도록 fetch size 단위로 읽음
+     * - 트랜잭션 안에서 호출하고, 사용 후 반드시 close
+     * 
+     * @return 이메일 Stream
+     */
+    @Query("select u.email from User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
+
+    /**
+     * ID 순서로 전체 사용자 스트리밍 조회 (내보내기용)
+     * 
+     * 생성되는 쿼리:
+     * SELECT * FROM users WHERE id > ? ORDER BY id
+     * 
+     * - 탈퇴한 사용자도 포함 (deleted, deleted_at 컬럼으로 구분)
+     * - fetch size 단위로 읽음 (전체를 메모리에 올리지 않음)
+     * - 읽기 전용 엔티티 (변경 감지용 스냅샷을 만들지 않음)
+     * - 2차 캐시를 읽지도 채우지도 않음 (전체를 훑으면서 자주 쓰는 엔티티를 밀어내지 않도록)
+     * - 영속성 컨텍스트에는 쌓이므로 호출하는 쪽에서 주기적으로 clear
+     * - 트랜잭션 안에서 호출하고, 사용 후 반드시 close
+     * 
+     * @param lastId 이 ID 다음부터 (처음이면 0)
+     * @return 사용자 Stream
+     */
+    @Query("select u from User u where u.id > :lastId order by u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<User> streamAllAfterId(@Param("lastId") long lastId);
+
+    /**
+     * 사용자 목록 첫 페이지 (최근 가입 순)
+     * 
+     * 생성되는 쿼리:
+     * SELECT id, public_id, email, name, role, created_at FROM users
+     * WHERE deleted = false ORDER BY created_at DESC, id DESC LIMIT ?
+     * 
+     * idx_users_created_at (created_at, id)을 역순으로 읽으므로 정렬 비용이 없습니다.
+     * 
+     * @param pageable 크기만 사용 (PageRequest.of(0, size))
+     * @return 사용자 목록
+     */
+    @Query("select new com.ecommerce.domain.user.service.UserSnapshot("
+            + "u.id, u.publicId, u.email, u.name, u.role, u.createdAt) "
+            + "from User u where u.deleted = false "
+            + "order by u.createdAt desc, u.id desc")
+    List<UserSnapshot> findFirstPage(Pageable pageable);
+
+    /**
+     * 사용자 목록 다음 페이지 (keyset: 커서 사용자 이후)
+     * 
+     * 생성되는 쿼리:
+     * SELECT ... FROM users
+     * WHERE deleted = false AND (created_at, id) < (?, ?)
+     * ORDER BY created_at DESC, id DESC LIMIT ?
+     * 
+     * OFFSET 없이 인덱스에서 커서 위치를 바로 찾으므로 페이지 번호와 무관하게 비용이 일정합니다.
+     * 
+     * 주의: 조건은 반드시 행 값 비교 (created_at, id) < (?, ?) 로 작성
+     * - "created_at < ? OR (created_at = ? AND id < ?)" 는 결과는 같지만
+     *   PostgreSQL이 인덱스 시작 위치로 쓰지 못하고 앞쪽 행을 모두 읽은 뒤 걸러냄
+     *   → 깊은 페이지일수록 느려짐 (UserListingBenchmark에서 확인)
+     * 
+     * @param createdAt 커서 사용자의 가입일시
+     * @param id        커서 사용자의 ID
+     * @param pageable  크기만 사용 (PageRequest.of(0, size))
+     * @return 사용자 목록
+     */
+    @Query("select new com.ecommerce.domain.user.service.UserSnapshot("
+            + "u.id, u.publicId, u.email, u.name, u.role, u.createdAt) "
+            + "from User u where u.deleted = false "
+            + "and (u.createdAt, u.id) < (:createdAt, :id) "
+            + "order by u.createdAt desc, u.id desc")
+    List<UserSnapshot> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+}
@@ -0,0 +1,170 @@
+package com.ecommerce.domain.user.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.domain.user.repository.UserActivityRepository;
+import com.ecommerce.global.common.UuidV7;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 마지막 활동 시간 기록 (write-behind)
+ *
+ * 왜 필요한가?
+ * - 부정 사용 탐지, 활성 사용자 분석에 "마지막 접속 시간"이 필요
+ * - JwtAuthenticationFilter에서 요청마다 UPDATE하면 모든 조회 요청이 DB 쓰기가 됨
+ *
+ * 동작 방식:
+ * 1. 인증된 요청마다 record(publicId) → 메모리 맵에 시간만 덮어씀 (DB 접근 없음)
+ *    - 같은 사용자가 여러 번 요청해도 엔트리 1개 (마지막 시간만 남음)
+ * 2. flush-interval마다 모인 엔트리를 UPDATE 배치 1번으로 기록 (UserActivityRepository)
+ *    - 1번에 최대 max-flush-size건 (남은 건 다음 주기에)
+ *    - 기록하는 동안 새로 들어온 시간은 지우지 않고 다음 주기에 기록
+ *    - DB 실패 시 엔트리를 그대로 두고 다음 주기에 재시도
+ * 3. 종료 시 (@PreDestroy) 남은 엔트리를 모두 기록
+ *    - 웹 서버가 먼저 멈추므로 (graceful shutdown) 이후 들어오는 요청은 없음
+ *
+ * 메모리 제한:
+ * - 맵에는 최대 max-pending명까지만 보관
+ * - 가득 차면 새 사용자의 활동은 버림 (이미 있는 사용자는 시간만 갱신)
+ * - 잃는 것은 "마지막 접속 시간"의 정확도뿐이므로 요청을 막지 않음
+ *
+ * 모니터링:
+ * - user_activity.pending (기록 대기 중인 사용자 수)
+ * - user_activity.flushed (DB에 기록한 건수)
+ * - user_activity.dropped (맵이 가득 차서 버린 건수)
+ * - user_activity.flush (flush 1번 시간)
+ */
+@Slf4j
+@Component
+public class UserActivityTracker {
+
+    private final UserActivityRepository userActivityRepository;
+    private final int maxPending;
+    private final int maxFlushSize;
+
+    // publicId → 마지막 활동 시간 (epoch ms)
+    private final Map<UUID, Long> pending = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    public UserActivityTracker(
+            UserActivityRepository userActivityRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user-activity.max-pending}") int maxPending,
+            @Value("${user-activity.max-flush-size}") int maxFlushSize) {
+        this.userActivityRepository = userActivityRepository;
+        this.maxPending = maxPending;
+        this.maxFlushSize = maxFlushSize;
+
+        Gauge.builder("user_activity.pending", pending, Map::size)
+                .description("DB 기록 대기 중인 사용자 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("user_activity.flushed")
+                .description("DB에 기록한 마지막 활동 시간 건수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("user_activity.dropped")
+                .description("대기 맵이 가득 차서 버린 활동 건수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("user_activity.flush")
+                .description("마지막 활동 시간 flush 1번 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활동 기록 (요청 스레드에서 호출, DB 접근 없음)
+     *
+     * @param publicId 사용자 공개 ID (UUID 형식이 아니면 무시)
+     */
+    public void record(String publicId) {
+        UuidV7.parse(publicId).ifPresent(this::record);
+    }
+
+    private void record(UUID publicId) {
+        long now = System.currentTimeMillis();
+        if (pending.size() >= maxPending && !pending.containsKey(publicId)) {
+            droppedCounter.increment();
+            return;
+        }
+        pending.put(publicId, now);
+    }
+
+    /**
+     * 모인 활동 시간을 DB에 기록 (주기 실행)
+     *
+     * 스케줄러와 종료 처리가 동시에 호출할 수 있으므로 한 번에 하나만 실행합니다.
+     *
+     * @return 기록한 건수 (실패하면 0)
+     */
+    @Scheduled(
+            initialDelayString = "${user-activity.flush-interval}",
+            fixedDelayString = "${user-activity.flush-interval}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 이번에 기록할 엔트리 (최대 maxFlushSize건)
+        Map<UUID, Long> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<UUID, Long>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < maxFlushSize) {
+            Map.Entry<UUID, Long> entry = iterator.next();
+            batch.put(entry.getKey(), entry.getValue());
+        }
+
+        Map<UUID, LocalDateTime> activities = new LinkedHashMap<>(batch.size());
+        batch.forEach((publicId, millis) -> activities.put(publicId, toLocalDateTime(millis)));
+
+        try {
+            flushTimer.record(() -> userActivityRepository.updateLastActiveAt(activities));
+        } catch (DataAccessException e) {
+            // 엔트리를 남겨두고 다음 주기에 재시도
+            log.warn("마지막 활동 시간 기록 실패: size={}, error={}", batch.size(), e.getMessage());
+            return 0;
+        }
+
+        // 기록하는 동안 시간이 바뀐 엔트리는 남겨둠 (다음 주기에 새 시간으로 기록)
+        batch.forEach((publicId, millis) -> pending.remove(publicId, millis));
+        flushedCounter.increment(batch.size());
+        log.debug("마지막 활동 시간 기록: size={}, remaining={}", batch.size(), pending.size());
+        return batch.size();
+    }
+
+    /**
+     * 종료 전 남은 활동 시간 모두 기록
+     *
+     * DB 실패가 계속되면 무한히 기다리지 않고 남은 건수만 로그로 남깁니다.
+     */
+    @PreDestroy
+    void flushAll() {
+        while (!pending.isEmpty()) {
+            if (flush() == 0) {
+                log.warn("종료 중 마지막 활동 시간 기록 실패, 버리는 건수: {}", pending.size());
+                return;
+            }
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,487 @@
+package com.ecommerce.domain.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.global.common.UuidV7;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 조회 캐시 (로컬 메모리 + Redis 2단계)
+ *
+ * 왜 필요한가?
+ * - UserService.findByPublicId/findByEmail, CustomUserDetailsService.loadUserByPublicId가
+ *   호출될 때마다 DB 조회
+ * - 사용자 정보는 거의 바뀌지 않는데 읽기는 매우 많음
+ *
+ * 동작 방식 (read-through):
+ * 1. 로컬 캐시 (Caffeine, W-TinyLFU, 최대 LOCAL_MAXIMUM_SIZE건, LOCAL_TTL)
+ * 2. 없으면 Redis "USER:pid:{publicId}" / "USER:email:{email}" (REMOTE_TTL)
+ * 3. 없으면 DB 조회 → Redis, 로컬 캐시 양쪽에 publicId/email 키로 저장
+ *    - publicId: Hibernate 2차 캐시 (UserRepository.findByPublicIdAndDeletedFalse, 캐시 hit이면 쿼리 없음)
+ *    - email, 여러 건: 필요한 컬럼만 읽는 프로젝션 쿼리 (UserRepository.findSnapshot...)
+ * - 값은 불변 스냅샷(UserSnapshot)이므로 여러 스레드가 공유해도 안전
+ * - 없는 사용자는 캐시하지 않음 (가입 직후 조회가 막히지 않도록)
+ *
+ * 여러 명 조회 (findAllByPublicIds):
+ * - 로컬 캐시 → Redis MGET 1번 → 남은 ID만 DB IN 조회 (DB 방언의 IN 개수 제한 단위로 청크)
+ * - Redis 저장도 스크립트 1번
+ *
+ * 캐시 쇄도(stampede) 방지:
+ * - 같은 키를 동시에 여러 요청이 찾으면 첫 요청만 Redis/DB를 조회하고
+ *   나머지는 그 결과를 기다림 (single-flight)
+ *
+ * 무효화:
+ * - User가 수정/탈퇴/복구되면 UserCacheInvalidationListener가 커밋 후 invalidate() 호출
+ * - Redis 키 삭제 + "user:cache-invalidate" 채널로 전파 → 모든 서버의 로컬 캐시에서 제거
+ *   (Hibernate 2차 캐시의 User 엔티티도 함께 제거. 같은 서버는 Hibernate가 이미 갱신함)
+ * - 전파가 유실되어도 로컬 엔트리는 LOCAL_TTL 뒤 만료
+ *
+ * 무효화와 로드가 겹칠 때 (커밋 전에 DB를 읽은 로드가 무효화 뒤에 캐시에 저장하는 경우):
+ * - Redis: invalidate()가 무효화 표시(USER:invalidated:{publicId}, TOMBSTONE_TTL)를 먼저 남기고,
+ *   로드 결과는 표시가 없을 때만 저장 (WRITE_SCRIPT, 확인 + SET을 원자적으로)
+ *   → 이전 스냅샷이 REMOTE_TTL 동안 남거나 다른 서버로 퍼지지 않음
+ * - 로컬: 로드 시작 후 무효화가 있었으면 (generation 변경) 저장하지 않음
+ *
+ * Redis 장애 시:
+ * - 캐시 조회/저장 실패는 로그만 남기고 DB 조회로 진행 (조회 API는 계속 동작)
+ *
+ * 모니터링:
+ * - cache.gets{cache=users, result=hit|miss} (로컬 캐시 hit ratio)
+ * - user_cache.remote{result=hit|miss} (Redis hit ratio)
+ * - user_cache.load{source=redis|db} (로컬 miss 시 로드 시간)
+ * - user_cache.coalesced (다른 요청의 로드를 기다린 횟수 = 막아낸 중복 조회)
+ */
+@Slf4j
+@Component
+public class UserCache implements MessageListener {
+
+    private static final String CACHE_NAME = "users";
+    private static final String REMOTE_KEY_PREFIX = "USER:";
+    private static final String PUBLIC_ID_KEY = "pid:";
+    private static final String EMAIL_KEY = "email:";
+    // 채널 메시지 전용 (Hibernate 2차 캐시에서 제거할 User ID)
+    private static final String ENTITY_ID_KEY = "id:";
+    private static final String TOMBSTONE_KEY = "invalidated:";
+    private static final String CHANNEL = "user:cache-invalidate";
+
+    private static final long LOCAL_MAXIMUM_SIZE = 10_000;
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+    private static final Duration REMOTE_TTL = Duration.ofMinutes(30);
+    // 무효화 표시 유지 시간 (이보다 오래 걸리는 로드는 없다고 가정)
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(30);
+    // IN 목록 최대 크기 (DB 방언 제한이 더 작으면 그 값)
+    private static final int MAX_IN_CLAUSE_SIZE = 1_000;
+
+    /*
+     * 무효화 표시가 없는 사용자만 저장
+     * KEYS: 사용자마다 [publicId 키, email 키, 무효화 표시 키] 3개씩
+     * ARGV: 사용자마다 스냅샷 1개
+     * 반환: 저장한 사용자 수
+     */
+    private static final RedisScript<Long> WRITE_SCRIPT = RedisScript.of("""
+            local written = 0
+            for i = 1, #ARGV do
+                local base = (i - 1) * 3
+                if redis.call('EXISTS', KEYS[base + 3]) == 0 then
+                    redis.call('SET', KEYS[base + 1], ARGV[i], 'PX', %d)
+                    redis.call('SET', KEYS[base + 2], ARGV[i], 'PX', %d)
+                    written = written + 1
+                end
+            end
+            return written""".formatted(REMOTE_TTL.toMillis(), REMOTE_TTL.toMillis()), Long.class);
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, Object> redisObjectTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final jakarta.persistence.Cache secondLevelCache;
+
+    // "pid:{publicId}" / "email:{email}" → 스냅샷
+    private final Cache<String, UserSnapshot> local;
+    // 진행 중인 로드 (키 → 결과)
+    private final Map<String, CompletableFuture<Optional<UserSnapshot>>> inFlight = new ConcurrentHashMap<>();
+    // 무효화할 때마다 증가 (로드 중에 무효화가 있었는지 확인용)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter remoteHitCounter;
+    private final Counter remoteMissCounter;
+    private final Counter coalescedCounter;
+    private final Timer remoteLoadTimer;
+    private final Timer databaseLoadTimer;
+
+    // DB 조회 1번에 넣을 publicId 수
+    private final int inClauseSize;
+
+    public UserCache(
+            UserRepository userRepository,
+            EntityManagerFactory entityManagerFactory,
+            RedisTemplate<String, Object> redisObjectTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.redisObjectTemplate = redisObjectTemplate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.secondLevelCache = entityManagerFactory.getCache();
+        this.local = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .expireAfterWrite(LOCAL_TTL)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+        this.remoteHitCounter = remoteCounter(meterRegistry, "hit");
+        this.remoteMissCounter = remoteCounter(meterRegistry, "miss");
+        this.coalescedCounter = Counter.builder("user_cache.coalesced")
+                .description("다른 요청의 로드 결과를 기다린 횟수")
+                .register(meterRegistry);
+        this.remoteLoadTimer = loadTimer(meterRegistry, "redis");
+        this.databaseLoadTimer = loadTimer(meterRegistry, "db");
+
+        // 0이면 제한 없음 (PostgreSQL, H2), Oracle은 1000
+        int dialectLimit = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getInExpressionCountLimit();
+        this.inClauseSize = dialectLimit > 0 ? Math.min(dialectLimit, MAX_IN_CLAUSE_SIZE) : MAX_IN_CLAUSE_SIZE;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * publicId로 사용자 조회
+     *
+     * 저장할 때와 같은 키를 쓰도록 정규화된 UUID 문자열(소문자)로 찾습니다.
+     * (대문자 등으로 들어와도 로컬 캐시 hit)
+     *
+     * @param publicId 사용자 공개 ID
+     * @return 사용자 스냅샷 (UUID 형식이 아니거나, 없거나 탈퇴했으면 empty)
+     */
+    public Optional<UserSnapshot> findByPublicId(String publicId) {
+        return UuidV7.parse(publicId).flatMap(uuid -> get(PUBLIC_ID_KEY + uuid,
+                () -> userRepository.findByPublicIdAndDeletedFalse(uuid).map(UserSnapshot::from)));
+    }
+
+    /**
+     * 이메일로 사용자 조회
+     *
+     * @param email 이메일
+     * @return 사용자 스냅샷 (없거나 탈퇴했으면 empty)
+     */
+    public Optional<UserSnapshot> findByEmail(String email) {
+        return get(EMAIL_KEY + email,
+                () -> userRepository.findSnapshotByEmail(email));
+    }
+
+    /**
+     * 여러 publicId로 사용자 조회
+     *
+     * 단건 조회와 같은 캐시를 사용합니다. (여기서 채운 엔트리를 단건 조회도 사용)
+     * 로컬 캐시에 없는 ID만 Redis → DB 순서로 한 번에 조회합니다.
+     *
+     * @param publicIds 사용자 공개 ID 목록 (UUID 형식이 아닌 값은 무시)
+     * @return 정규화된 publicId(소문자 UUID 문자열) → 스냅샷 (없거나 탈퇴한 사용자는 빠짐)
+     */
+    public Map<String, UserSnapshot> findAllByPublicIds(Collection<String> publicIds) {
+        // 정규화된 publicId → UUID (아직 못 찾은 것)
+        Map<String, UUID> pending = new LinkedHashMap<>();
+        for (String publicId : publicIds) {
+            UuidV7.parse(publicId).ifPresent(uuid -> pending.put(uuid.toString(), uuid));
+        }
+        Map<String, UserSnapshot> found = new HashMap<>(pending.size());
+        long startGeneration = generation.get();
+
+        // 1. 로컬 캐시
+        List<String> localKeys = pending.keySet().stream().map(id -> PUBLIC_ID_KEY + id).toList();
+        local.getAllPresent(localKeys).values().forEach(snapshot -> found.put(snapshot.publicId(), snapshot));
+        pending.keySet().removeAll(found.keySet());
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        // 2. Redis (MGET 1번)
+        List<UserSnapshot> remote = remoteLoadTimer.record(() -> readRemoteAll(pending.keySet()));
+        remote.forEach(snapshot -> {
+            found.put(snapshot.publicId(), snapshot);
+            putLocal(snapshot, startGeneration);
+        });
+        pending.keySet().removeAll(found.keySet());
+        remoteHitCounter.increment(remote.size());
+        remoteMissCounter.increment(pending.size());
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        // 3. DB (IN 목록, inClauseSize 단위)
+        List<UserSnapshot> loaded = databaseLoadTimer.record(() -> loadAll(List.copyOf(pending.values())));
+        writeRemoteAll(loaded);
+        loaded.forEach(snapshot -> {
+            found.put(snapshot.publicId(), snapshot);
+            putLocal(snapshot, startGeneration);
+        });
+        return found;
+    }
+
+    /**
+     * 사용자 캐시 무효화 (이 서버 + Redis + 다른 서버)
+     *
+     * @param id       사용자 ID (다른 서버의 Hibernate 2차 캐시 제거용)
+     * @param publicId 사용자 공개 ID
+     * @param email    이메일
+     */
+    public void invalidate(Long id, String publicId, String email) {
+        List<String> keys = List.of(PUBLIC_ID_KEY + publicId, EMAIL_KEY + email);
+        generation.incrementAndGet();
+        local.invalidateAll(keys);
+
+        try {
+            // 표시를 먼저 남겨야 삭제 직후 끝나는 로드가 이전 스냅샷을 다시 저장하지 못함
+            redisTemplate.opsForValue().set(tombstoneKey(publicId), "1", TOMBSTONE_TTL);
+            redisObjectTemplate.delete(keys.stream().map(key -> REMOTE_KEY_PREFIX + key).toList());
+            redisTemplate.convertAndSend(CHANNEL, String.join("\n", keys) + "\n" + ENTITY_ID_KEY + id);
+        } catch (DataAccessException e) {
+            // 다른 서버 로컬 캐시는 LOCAL_TTL 뒤 만료, Redis 엔트리는 REMOTE_TTL 뒤 만료
+            log.warn("사용자 캐시 무효화 전파 실패: publicId={}, error={}", publicId, e.getMessage());
+        }
+    }
+
+    /**
+     * 채널 메시지 수신
+     *
+     * 형식: 로컬 캐시 키, "id:{사용자 ID}" (여러 건은 줄바꿈으로 구분)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<String> keys = new ArrayList<>();
+        for (String key : body.split("\n")) {
+            if (key.startsWith(ENTITY_ID_KEY)) {
+                secondLevelCache.evict(User.class, Long.valueOf(key.substring(ENTITY_ID_KEY.length())));
+            } else {
+                keys.add(key);
+            }
+        }
+        generation.incrementAndGet();
+        local.invalidateAll(keys);
+    }
+
+    /**
+     * 로컬 → (single-flight) → Redis → DB
+     */
+    private Optional<UserSnapshot> get(String key, Supplier<Optional<UserSnapshot>> loader) {
+        UserSnapshot cached = local.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<Optional<UserSnapshot>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<UserSnapshot>> existing = inFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            // 같은 키를 다른 요청이 이미 로드 중 → 결과만 기다림
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        try {
+            Optional<UserSnapshot> loaded = load(key, loader);
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, loading);
+        }
+    }
+
+    /**
+     * Redis → DB 순서로 로드하고 양쪽 캐시에 저장
+     */
+    private Optional<UserSnapshot> load(String key, Supplier<Optional<UserSnapshot>> loader) {
+        long startGeneration = generation.get();
+
+        UserSnapshot remote = remoteLoadTimer.record(() -> readRemote(key));
+        if (remote != null) {
+            remoteHitCounter.increment();
+            putLocal(remote, startGeneration);
+            return Optional.of(remote);
+        }
+        remoteMissCounter.increment();
+
+        Optional<UserSnapshot> loaded = databaseLoadTimer.record(loader);
+        loaded.ifPresent(snapshot -> {
+            writeRemote(snapshot);
+            putLocal(snapshot, startGeneration);
+        });
+        return loaded;
+    }
+
+    private UserSnapshot readRemote(String key) {
+        try {
+            Object value = redisObjectTemplate.opsForValue().get(REMOTE_KEY_PREFIX + key);
+            return value instanceof UserSnapshot snapshot ? snapshot : null;
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("사용자 캐시 Redis 조회 실패, DB 조회로 진행: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Redis MGET (publicId 키)
+     */
+    private List<UserSnapshot> readRemoteAll(Collection<String> publicIds) {
+        List<String> keys = publicIds.stream()
+                .map(id -> REMOTE_KEY_PREFIX + PUBLIC_ID_KEY + id)
+                .toList();
+        try {
+            List<Object> values = redisObjectTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return List.of();
+            }
+            List<UserSnapshot> snapshots = new ArrayList<>(values.size());
+            for (Object value : values) {
+                if (value instanceof UserSnapshot snapshot) {
+                    snapshots.add(snapshot);
+                }
+            }
+            return snapshots;
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("사용자 캐시 Redis 일괄 조회 실패, DB 조회로 진행: size={}, error={}", keys.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * DB 일괄 조회 (IN 목록을 inClauseSize 단위로 나눠서)
+     */
+    private List<UserSnapshot> loadAll(List<UUID> publicIds) {
+        List<UserSnapshot> loaded = new ArrayList<>(publicIds.size());
+        for (int from = 0; from < publicIds.size(); from += inClauseSize) {
+            int to = Math.min(from + inClauseSize, publicIds.size());
+            loaded.addAll(userRepository.findSnapshotsByPublicIds(publicIds.subList(from, to)));
+        }
+        return loaded;
+    }
+
+    private void writeRemote(UserSnapshot snapshot) {
+        writeRemoteAll(List.of(snapshot));
+    }
+
+    /**
+     * Redis 저장 (publicId/email 키, 스크립트 1번)
+     *
+     * 무효화 표시가 남아 있는 사용자는 건너뜁니다. (로드 중에 수정/탈퇴된 사용자)
+     */
+    private void writeRemoteAll(List<UserSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(snapshots.size() * 3);
+        for (UserSnapshot snapshot : snapshots) {
+            keys.add(REMOTE_KEY_PREFIX + PUBLIC_ID_KEY + snapshot.publicId());
+            keys.add(REMOTE_KEY_PREFIX + EMAIL_KEY + snapshot.email());
+            keys.add(tombstoneKey(snapshot.publicId()));
+        }
+
+        try {
+            Long written = redisObjectTemplate.execute(WRITE_SCRIPT, keys, snapshots.toArray());
+            if (written != null && written < snapshots.size()) {
+                log.debug("무효화된 사용자는 Redis에 저장하지 않음: skipped={}", snapshots.size() - written);
+            }
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("사용자 캐시 Redis 저장 실패: size={}, error={}", snapshots.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 캐시 저장 (로드를 시작한 뒤 무효화가 없었을 때만)
+     *
+     * 저장 직후에 무효화가 끼어들 수 있으므로 저장 후 한 번 더 확인합니다.
+     */
+    private void putLocal(UserSnapshot snapshot, long startGeneration) {
+        if (generation.get() != startGeneration) {
+            return;
+        }
+
+        List<String> keys = List.of(PUBLIC_ID_KEY + snapshot.publicId(), EMAIL_KEY + snapshot.email());
+        keys.forEach(key -> local.put(key, snapshot));
+
+        if (generation.get() != startGeneration) {
+            local.invalidateAll(keys);
+        }
+    }
+
+    private static String tombstoneKey(String publicId) {
+        return REMOTE_KEY_PREFIX + TOMBSTONE_KEY + publicId;
+    }
+
+    /**
+     * 다른 요청의 로드 결과 대기 (로드 중 발생한 예외는 그대로 전달)
+     */
+    private static Optional<UserSnapshot> await(CompletableFuture<Optional<UserSnapshot>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter remoteCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user_cache.remote")
+                .tag("result", result)
+                .description("사용자 캐시 Redis 조회 결과")
+                .register(meterRegistry);
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("user_cache.load")
+                .tag("source", source)
+                .description("로컬 캐시 miss 시 사용자 로드 시간")
+                .register(meterRegistry);
+    }
+}
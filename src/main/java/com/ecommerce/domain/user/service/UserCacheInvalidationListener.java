@@ -0,0 +1,49 @@
+package com.ecommerce.domain.user.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.domain.user.entity.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User 변경 시 사용자 캐시 무효화 (JPA 엔티티 리스너)
+ *
+ * updateName(), updatePassword(), delete(), restore() 등 어떤 필드가 바뀌든
+ * UPDATE가 flush되면 호출됩니다. (메서드마다 무효화 코드를 넣지 않아도 됨)
+ *
+ * - 트랜잭션 안이면 트랜잭션이 끝난 뒤 무효화
+ *   → 커밋 전에 무효화하면 다른 요청이 이전 값을 다시 캐시에 넣을 수 있음
+ * - Spring이 생성자 주입으로 만들어 줌 (Hibernate SpringBeanContainer)
+ * - 리스너는 EntityManagerFactory 생성 중에 만들어지고, UserCache는 UserRepository
+ *   (= EntityManagerFactory)가 필요하므로 순환을 피하려고 ObjectProvider로 늦게 꺼냄
+ */
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final ObjectProvider<UserCache> userCache;
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        Long id = user.getId();
+        String publicId = user.getPublicId();
+        String email = user.getEmail();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userCache.getObject().invalidate(id, publicId, email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                userCache.getObject().invalidate(id, publicId, email);
+            }
+        });
+    }
+}
@@ -0,0 +1,277 @@
+package com.ecommerce.domain.user.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.domain.user.dto.response.UserExportResponse;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserJobCheckpointRepository;
+import com.ecommerce.domain.user.repository.UserJobCheckpointRepository.Job;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 전체 내보내기 (컴플라이언스, 마케팅 추출)
+ *
+ * 왜 필요한가?
+ * - userRepository.findAll()은 모든 사용자를 List로 올림 → 사용자 수만큼 힙 사용
+ * - 수백만 명이면 OutOfMemoryError, 중간에 실패하면 처음부터 다시
+ *
+ * 처리 흐름:
+ * 1. 읽기 전용 트랜잭션 1개 안에서 ID 순서로 스트리밍 조회 (fetch size 1000, 읽기 전용 힌트)
+ * 2. 한 줄씩 CSV로 변환해서 파일에 씀
+ * 3. CHUNK_SIZE줄마다
+ *    - 파일 flush + fsync
+ *    - 체크포인트 저장 (마지막 ID + 파일 크기)
+ *    - 영속성 컨텍스트 clear (읽은 엔티티를 붙잡고 있지 않도록)
+ * → 사용자 수와 무관하게 힙 사용량이 일정
+ *
+ * 재개:
+ * - 같은 jobId로 다시 요청하면 파일을 체크포인트 크기로 잘라낸 뒤 (중단된 청크 제거)
+ *   마지막 ID 다음부터 이어서 씀
+ * - 같은 jobId가 실행 중이면 409 (Redis 작업 락, 두 요청이 같은 파일과 체크포인트를 쓰지 않도록)
+ *
+ * 출력 형식 (CSV, UTF-8, 헤더 1줄):
+ * id,public_id,email,name,role,created_at,updated_at,deleted,deleted_at
+ * - 비밀번호 해시는 내보내지 않음
+ * - =, +, -, @, 탭, CR로 시작하는 이메일 / 이름은 앞에 '를 붙임
+ *   (스프레드시트에서 열 때 수식으로 실행되지 않도록, CSV injection)
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final String HEADER = "id,public_id,email,name,role,created_at,updated_at,deleted,deleted_at\n";
+    // jobId는 파일 이름에 들어가므로 경로 문자를 허용하지 않음
+    private static final Pattern JOB_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,100}");
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final UserRepository userRepository;
+    private final UserJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public UserExportService(
+            UserRepository userRepository,
+            UserJobCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${user-export.directory}") String directory) {
+        this.userRepository = userRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * 내보내기 실행
+     *
+     * @param jobId 작업 ID (null이면 새로 생성, 기존 ID면 이어서 처리)
+     * @return 처리 결과 (이전 실행분 포함)
+     */
+    public UserExportResponse exportUsers(String jobId) {
+        String id = jobId != null ? jobId : UUID.randomUUID().toString();
+        if (!JOB_ID_PATTERN.matcher(id).matches()) {
+            throw new BusinessException(ErrorCode.COMMON_INVALID_INPUT, "jobId는 영문, 숫자, '-', '_'만 사용할 수 있습니다");
+        }
+
+        Path file = directory.resolve("users-" + id + ".csv");
+
+        String lockToken = UUID.randomUUID().toString();
+        if (!checkpointRepository.tryLock(Job.EXPORT, id, lockToken)) {
+            throw new BusinessException(ErrorCode.USER_JOB_IN_PROGRESS);
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Progress progress = resume(id, file, lockToken);
+            log.info("사용자 내보내기 시작: jobId={}, file={}, resumeAfterId={}", id, file, progress.lastId);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // 마지막 체크포인트 이후에 쓰다 만 내용은 버림 (같은 줄이 두 번 들어가지 않도록)
+                channel.truncate(progress.fileSize);
+                channel.position(progress.fileSize);
+
+                Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+                if (progress.fileSize == 0) {
+                    writer.write(HEADER);
+                }
+
+                readOnlyTransaction.executeWithoutResult(status -> writeUsers(writer, channel, progress));
+            }
+
+            log.info("사용자 내보내기 완료: jobId={}, exported={}, fileSize={}", id, progress.exported, progress.fileSize);
+            return progress.toResponse();
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 내보내기 파일을 쓸 수 없습니다: jobId=" + id, e);
+        } finally {
+            checkpointRepository.unlock(Job.EXPORT, id, lockToken);
+        }
+    }
+
+    /**
+     * 체크포인트에서 진행 상황 복원
+     *
+     * 파일이 체크포인트보다 짧으면 (파일이 지워졌거나 다른 서버에서 쓴 경우) 처음부터 다시 씁니다.
+     */
+    private Progress resume(String jobId, Path file, String lockToken) throws IOException {
+        Progress progress = checkpointRepository.find(Job.EXPORT, jobId)
+                .map(fields -> UserExportResponse.fromCheckpoint(jobId, fields))
+                .map(checkpoint -> Progress.from(checkpoint, file, lockToken))
+                .orElseGet(() -> new Progress(jobId, file, lockToken));
+
+        long currentSize = Files.exists(file) ? Files.size(file) : 0L;
+        if (currentSize < progress.fileSize) {
+            log.warn("내보내기 파일이 체크포인트와 맞지 않아 처음부터 다시 씁니다: jobId={}", jobId);
+            return new Progress(jobId, file, lockToken);
+        }
+        return progress;
+    }
+
+    /**
+     * 스트리밍 조회 → CSV (트랜잭션 안에서 실행)
+     */
+    private void writeUsers(Writer writer, FileChannel channel, Progress progress) {
+        try (Stream<User> users = userRepository.streamAllAfterId(progress.lastId)) {
+            Iterator<User> iterator = users.iterator();
+            int written = 0;
+
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                writer.write(toCsvLine(user));
+                progress.lastId = user.getId();
+                progress.exported++;
+
+                if (++written == CHUNK_SIZE) {
+                    checkpoint(writer, channel, progress);
+                    entityManager.clear();
+                    written = 0;
+                }
+            }
+
+            checkpoint(writer, channel, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 내보내기 파일을 쓸 수 없습니다: jobId=" + progress.jobId, e);
+        }
+    }
+
+    /**
+     * 파일 flush + fsync 후 체크포인트 저장
+     *
+     * 파일이 디스크에 기록된 뒤에 체크포인트를 저장해야
+     * 재개 시 체크포인트 크기만큼은 항상 온전한 내용입니다.
+     * 
+     * 쓰기 전에 작업 락을 연장하고, 락을 잃었으면 (만료 후 다른 요청이 가져감) 중단합니다.
+     */
+    private void checkpoint(Writer writer, FileChannel channel, Progress progress) throws IOException {
+        if (!checkpointRepository.extendLock(Job.EXPORT, progress.jobId, progress.lockToken)) {
+            throw new IllegalStateException("사용자 내보내기 작업 락을 잃었습니다: jobId=" + progress.jobId);
+        }
+        writer.flush();
+        channel.force(false);
+        progress.fileSize = channel.position();
+        checkpointRepository.save(Job.EXPORT, progress.jobId, progress.toResponse().toCheckpoint());
+
+        log.debug("사용자 내보내기 진행: jobId={}, lastId={}, exported={}",
+                progress.jobId, progress.lastId, progress.exported);
+    }
+
+    private static String toCsvLine(User user) {
+        return user.getId() + ","
+                + user.getPublicId() + ","
+                + csv(user.getEmail()) + ","
+                + csv(user.getName()) + ","
+                + user.getRole() + ","
+                + dateTime(user.getCreatedAt()) + ","
+                + dateTime(user.getUpdatedAt()) + ","
+                + user.getDeleted() + ","
+                + dateTime(user.getDeletedAt()) + "\n";
+    }
+
+    /**
+     * CSV 값 이스케이프
+     * 
+     * - 수식으로 시작하면 앞에 ' (FORMULA_PREFIXES)
+     * - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감쌈
+     */
+    private static String csv(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String value = FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0 ? "'" + text : text;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String dateTime(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * 작업 진행 상황 (요청 1개 안에서만 사용)
+     */
+    private static class Progress {
+
+        private final String jobId;
+        private final String file;
+        private final String lockToken;
+        private long lastId;
+        private long exported;
+        private long fileSize;
+
+        private Progress(String jobId, Path file, String lockToken) {
+            this.jobId = jobId;
+            this.file = file.toString();
+            this.lockToken = lockToken;
+        }
+
+        private static Progress from(UserExportResponse checkpoint, Path file, String lockToken) {
+            Progress progress = new Progress(checkpoint.getJobId(), file, lockToken);
+            progress.lastId = checkpoint.getLastId();
+            progress.exported = checkpoint.getExported();
+            progress.fileSize = checkpoint.getFileSize();
+            return progress;
+        }
+
+        private UserExportResponse toResponse() {
+            return UserExportResponse.builder()
+                    .jobId(jobId)
+                    .file(file)
+                    .lastId(lastId)
+                    .exported(exported)
+                    .fileSize(fileSize)
+                    .build();
+        }
+    }
+}
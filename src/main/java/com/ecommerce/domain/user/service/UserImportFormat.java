@@ -0,0 +1,9 @@
+package com.ecommerce.domain.user.service;
+
+/**
+ * 대량 가입 파일 형식
+ */
+public enum UserImportFormat {
+    CSV, // 첫 줄 헤더 (email,password,name), 이후 한 줄에 1명
+    JSONL // 한 줄에 JSON 1개 {"email": ..., "password": ..., "name": ...}
+}
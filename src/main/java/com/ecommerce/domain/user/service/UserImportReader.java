@@ -0,0 +1,132 @@
+package com.ecommerce.domain.user.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ecommerce.domain.auth.dto.request.SignUpRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 대량 가입 파일을 한 줄씩 SignUpRequest로 읽는 리더
+ *
+ * 파일 전체를 메모리에 올리지 않고 줄 단위로 읽습니다.
+ * 형식이 잘못된 줄은 request == null로 돌려주고 건너뛰지 않습니다.
+ * (검증 실패 건수에 포함되도록)
+ */
+class UserImportReader {
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectMapper objectMapper;
+
+    // CSV 헤더: 컬럼 이름 → 위치
+    private Map<String, Integer> columns;
+    private long lineNumber = 0;
+
+    UserImportReader(BufferedReader reader, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 레코드
+     *
+     * @return 레코드 (파일 끝이면 null)
+     */
+    Record next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        if (format == UserImportFormat.CSV && columns == null) {
+            columns = parseHeader(line);
+            return next();
+        }
+
+        return new Record(lineNumber, format == UserImportFormat.CSV ? parseCsv(line) : parseJson(line));
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(), i);
+        }
+        if (!header.keySet().containsAll(List.of("email", "password", "name"))) {
+            throw new IllegalArgumentException("CSV 헤더에 email, password, name 컬럼이 필요합니다: " + line);
+        }
+        return header;
+    }
+
+    private SignUpRequest parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() < columns.size()) {
+            return null;
+        }
+        return SignUpRequest.builder()
+                .email(values.get(columns.get("email")).trim())
+                .password(values.get(columns.get("password")))
+                .name(values.get(columns.get("name")).trim())
+                .build();
+    }
+
+    private SignUpRequest parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, SignUpRequest.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표로 감싼 값, "" 이스케이프 지원)
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * 파일의 한 줄
+     *
+     * @param lineNumber 줄 번호 (1부터, 재개 지점 기준)
+     * @param request    변환 결과 (형식 오류면 null)
+     */
+    record Record(long lineNumber, SignUpRequest request) {
+    }
+}
@@ -0,0 +1,478 @@
+package com.ecommerce.domain.user.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.domain.auth.dto.request.SignUpRequest;
+import com.ecommerce.domain.auth.service.EmailBloomFilter;
+import com.ecommerce.domain.user.dto.response.UserImportResponse;
+import com.ecommerce.domain.user.entity.Role;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserBulkInsertRepository;
+import com.ecommerce.domain.user.repository.UserJobCheckpointRepository;
+import com.ecommerce.domain.user.repository.UserJobCheckpointRepository.Job;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 대량 가입 (파트너 고객 목록 등)
+ *
+ * 왜 필요한가?
+ * - 가입 경로가 AuthService.signUp() 하나뿐 → 1명씩, INSERT마다 DB 왕복
+ * - 수백만 명을 넣으면 몇 시간이 걸리고, 중간에 실패하면 처음부터 다시
+ *
+ * 접수 (submit, 요청 스레드):
+ * - 요청 본문을 user-import.directory에 저장하고 바로 202 + jobId 반환
+ * - 실제 처리는 작업 전용 스레드 1개에서 순서대로 (동시에 여러 파일을 해싱하지 않음)
+ * - 진행 상황은 getStatus(jobId) → GET /api/admin/users/import/{jobId}
+ *
+ * 처리 흐름 (CHUNK_SIZE줄 단위, 작업 스레드):
+ * 1. 파일을 한 줄씩 읽어 SignUpRequest로 변환 (CSV / JSONL)
+ * 2. SignUpRequest와 같은 규칙으로 검증 (@Valid와 동일한 Validator)
+ * 3. 이메일 중복 제거 (청크 안 중복 + 이미 가입된 이메일)
+ * 4. 비밀번호 해싱을 전용 ForkJoinPool에서 병렬 처리
+ * 5. 배치 INSERT (청크 1개 = 트랜잭션 1개, UserBulkInsertRepository)
+ * 6. 체크포인트 저장 (마지막 줄 번호 + 건수)
+ *
+ * 메모리:
+ * - 청크 1개 분량만 메모리에 둠 → 파일 크기와 무관하게 일정
+ * - 파일 안 중복 이메일도 청크 안에서만 기억
+ *   이전 청크에 나온 이메일은 이미 커밋되었으므로 findExistingEmails(청크마다 1번)가 걸러냄
+ *   (파일 전체의 이메일을 Set에 모으면 수백만 줄 파일에서 그만큼 메모리가 늘어남)
+ *
+ * CPU:
+ * - 로그인 해싱(PasswordHashingExecutor)과 같은 코어를 쓰므로 해싱 스레드는 코어의 일부만
+ *   (기본 코어 수 / 4, 설정해도 코어 수 / 2까지)
+ *
+ * 재개:
+ * - 같은 jobId로 같은 파일을 다시 보내면 체크포인트 다음 줄부터 처리
+ *   (실패했거나 서버 재시작으로 RUNNING에 멈춘 작업 포함)
+ *
+ * 지표:
+ * - user_import.records{outcome=imported|invalid|duplicate}
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    // 실행을 기다릴 수 있는 작업 수 (넘으면 503)
+    private static final int JOB_QUEUE_CAPACITY = 10;
+    // jobId는 파일 이름에 들어가므로 경로 문자를 허용하지 않음
+    private static final Pattern JOB_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,100}");
+
+    private final UserRepository userRepository;
+    private final UserBulkInsertRepository userBulkInsertRepository;
+    private final UserJobCheckpointRepository checkpointRepository;
+    private final EmailBloomFilter emailBloomFilter;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+
+    // 작업 실행 전용 스레드 1개 (요청 처리 스레드와 분리)
+    private final ThreadPoolExecutor jobExecutor;
+    // 비밀번호 해싱 전용 (로그인 해싱, 공용 ForkJoinPool과 분리)
+    private final ForkJoinPool hashingPool;
+    // 이 서버에서 접수 / 실행 중인 jobId
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+
+    private final Counter importedCounter;
+    private final Counter invalidCounter;
+    private final Counter duplicateCounter;
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserBulkInsertRepository userBulkInsertRepository,
+            UserJobCheckpointRepository checkpointRepository,
+            EmailBloomFilter emailBloomFilter,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${user-import.hashing-parallelism:0}") int hashingParallelism,
+            @Value("${user-import.directory}") String directory) {
+        this.userRepository = userRepository;
+        this.userBulkInsertRepository = userBulkInsertRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.emailBloomFilter = emailBloomFilter;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.directory = Paths.get(directory);
+        this.jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(JOB_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import");
+                    thread.setDaemon(true); // 종료를 막지 않음 (중단된 작업은 체크포인트에서 재개)
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashingPool = new ForkJoinPool(
+                hashingParallelism(hashingParallelism, Runtime.getRuntime().availableProcessors()));
+
+        this.importedCounter = recordCounter(meterRegistry, "imported");
+        this.invalidCounter = recordCounter(meterRegistry, "invalid");
+        this.duplicateCounter = recordCounter(meterRegistry, "duplicate");
+    }
+
+    /**
+     * 해싱 스레드 수 (로그인 해싱에 코어를 남겨둠)
+     *
+     * @param configured user-import.hashing-parallelism (0: 기본값)
+     * @param cores      CPU 코어 수
+     * @return 기본 코어 수 / 4, 설정값은 코어 수 / 2까지 (최소 1)
+     */
+    static int hashingParallelism(int configured, int cores) {
+        int max = Math.max(1, cores / 2);
+        return configured > 0 ? Math.min(configured, max) : Math.max(1, cores / 4);
+    }
+
+    /**
+     * 대량 가입 접수
+     *
+     * 요청 본문을 파일로 저장한 뒤 작업 스레드에 넘기고 바로 반환합니다.
+     *
+     * @param input  파일 내용 (요청 본문 스트림)
+     * @param format 파일 형식
+     * @param jobId  작업 ID (null이면 새로 생성, 기존 ID면 이어서 처리)
+     * @return 접수 상태 (QUEUED, 이전 실행분 포함)
+     * @throws BusinessException 같은 jobId가 실행 중이면 USER_JOB_IN_PROGRESS, 대기열이 가득 차면 COMMON_SERVICE_UNAVAILABLE
+     */
+    public UserImportResponse submit(InputStream input, UserImportFormat format, String jobId) {
+        String id = jobId != null ? jobId : UUID.randomUUID().toString();
+        if (!JOB_ID_PATTERN.matcher(id).matches()) {
+            throw new BusinessException(ErrorCode.COMMON_INVALID_INPUT, "jobId는 영문, 숫자, '-', '_'만 사용할 수 있습니다");
+        }
+        if (!activeJobs.add(id)) {
+            throw new BusinessException(ErrorCode.USER_JOB_IN_PROGRESS);
+        }
+
+        Path file = directory.resolve("import-" + id + "." + format.name().toLowerCase(Locale.ROOT));
+        try {
+            Files.createDirectories(directory);
+            Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+
+            Progress progress = restore(id);
+            progress.status = UserImportStatus.QUEUED;
+            save(progress);
+
+            try {
+                jobExecutor.execute(() -> run(file, format, id));
+            } catch (RejectedExecutionException e) {
+                progress.status = UserImportStatus.FAILED;
+                progress.error = "대기 중인 작업이 너무 많습니다";
+                save(progress);
+                throw new BusinessException(ErrorCode.COMMON_SERVICE_UNAVAILABLE,
+                        "대기 중인 대량 가입 작업이 너무 많습니다. 잠시 후 다시 시도해주세요");
+            }
+
+            log.info("대량 가입 접수: jobId={}, format={}, file={}", id, format, file);
+            return progress.toResponse();
+        } catch (IOException e) {
+            release(id, file);
+            throw new UncheckedIOException("대량 가입 파일을 저장할 수 없습니다: jobId=" + id, e);
+        } catch (RuntimeException e) {
+            release(id, file);
+            throw e;
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 진행 상황 (체크포인트 기준)
+     * @throws BusinessException 체크포인트가 없으면 (모르는 jobId이거나 보관 기간 만료) COMMON_RESOURCE_NOT_FOUND
+     */
+    public UserImportResponse getStatus(String jobId) {
+        return checkpointRepository.find(Job.IMPORT, jobId)
+                .map(fields -> UserImportResponse.fromCheckpoint(jobId, fields))
+                .orElseThrow(() -> new BusinessException(ErrorCode.COMMON_RESOURCE_NOT_FOUND,
+                        "대량 가입 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /**
+     * 작업 실행 (작업 스레드)
+     *
+     * 실패해도 체크포인트는 남으므로 같은 jobId로 다시 보내면 이어서 처리합니다.
+     */
+    private void run(Path file, UserImportFormat format, String id) {
+        Progress progress = restore(id);
+        progress.status = UserImportStatus.RUNNING;
+        progress.error = null;
+        save(progress);
+
+        long resumeAfter = progress.lastLine;
+        log.info("대량 가입 시작: jobId={}, format={}, resumeAfter={}", id, format, resumeAfter);
+
+        try {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+                UserImportReader records = new UserImportReader(reader, format, objectMapper);
+                List<UserImportReader.Record> chunk = new ArrayList<>(CHUNK_SIZE);
+
+                UserImportReader.Record record;
+                while ((record = records.next()) != null) {
+                    if (record.lineNumber() <= resumeAfter) {
+                        continue; // 이전 실행에서 처리 완료된 줄
+                    }
+                    chunk.add(record);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        processChunk(chunk, progress);
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    processChunk(chunk, progress);
+                }
+            }
+
+            progress.status = UserImportStatus.COMPLETED;
+            save(progress);
+            log.info("대량 가입 완료: jobId={}, imported={}, invalid={}, duplicate={}",
+                    id, progress.imported, progress.invalid, progress.duplicate);
+        } catch (Exception e) {
+            log.error("대량 가입 실패: jobId={}, lastLine={}", id, progress.lastLine, e);
+            progress.status = UserImportStatus.FAILED;
+            progress.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            try {
+                save(progress);
+            } catch (RuntimeException saveFailure) {
+                log.warn("대량 가입 실패 상태를 저장하지 못했습니다: jobId={}", id, saveFailure);
+            }
+        } finally {
+            release(id, file);
+        }
+    }
+
+    /**
+     * 체크포인트에서 진행 상황 복원 (없으면 처음부터)
+     */
+    private Progress restore(String id) {
+        return checkpointRepository.find(Job.IMPORT, id)
+                .map(fields -> UserImportResponse.fromCheckpoint(id, fields))
+                .map(Progress::from)
+                .orElseGet(() -> new Progress(id));
+    }
+
+    private void save(Progress progress) {
+        checkpointRepository.save(Job.IMPORT, progress.jobId, progress.toResponse().toCheckpoint());
+    }
+
+    /**
+     * 작업 종료 처리 (업로드 파일 삭제, jobId 해제)
+     */
+    private void release(String id, Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("대량 가입 파일을 삭제하지 못했습니다: {}", file, e);
+        } finally {
+            activeJobs.remove(id);
+        }
+    }
+
+    /**
+     * 청크 1개 처리 (검증 → 중복 제거 → 병렬 해싱 → 배치 INSERT → 체크포인트)
+     */
+    private void processChunk(List<UserImportReader.Record> chunk, Progress progress) {
+        // 1. 검증 + 청크 안 중복 제거 (이전 청크와의 중복은 2번에서 DB 조회로)
+        Set<String> seenEmails = new HashSet<>(chunk.size() * 2);
+        List<SignUpRequest> candidates = new ArrayList<>(chunk.size());
+        for (UserImportReader.Record record : chunk) {
+            SignUpRequest request = record.request();
+            if (request == null || !validator.validate(request).isEmpty()) {
+                progress.invalid++;
+                invalidCounter.increment();
+            } else if (!seenEmails.add(request.getEmail())) {
+                progress.duplicate++;
+                duplicateCounter.increment();
+            } else {
+                candidates.add(request);
+            }
+        }
+
+        // 2. 이미 가입된 이메일 제거
+        List<SignUpRequest> requests = excludeExisting(candidates, progress);
+
+        // 3. 비밀번호 병렬 해싱 (전용 ForkJoinPool)
+        List<User> users = hashingPool.submit(() -> requests.parallelStream()
+                .map(this::toUser)
+                .toList())
+                .join();
+
+        // 4. 배치 INSERT (동시에 가입한 사용자와 겹치면 다시 걸러서 1번 재시도)
+        List<User> inserted = insert(users, progress);
+        inserted.forEach(user -> emailBloomFilter.add(user.getEmail()));
+        progress.imported += inserted.size();
+        importedCounter.increment(inserted.size());
+
+        // 5. 체크포인트
+        progress.lastLine = chunk.get(chunk.size() - 1).lineNumber();
+        save(progress);
+
+        log.debug("대량 가입 진행: jobId={}, lastLine={}, imported={}",
+                progress.jobId, progress.lastLine, progress.imported);
+    }
+
+    /**
+     * DB에 이미 있는 이메일 제외 (다른 경로로 가입한 사용자 + 이 파일의 이전 청크)
+     */
+    private List<SignUpRequest> excludeExisting(List<SignUpRequest> requests, Progress progress) {
+        if (requests.isEmpty()) {
+            return requests;
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                requests.stream().map(SignUpRequest::getEmail).toList()));
+        if (existing.isEmpty()) {
+            return requests;
+        }
+
+        progress.duplicate += existing.size();
+        duplicateCounter.increment(existing.size());
+        return requests.stream()
+                .filter(request -> !existing.contains(request.getEmail()))
+                .toList();
+    }
+
+    /**
+     * 청크 INSERT
+     *
+     * 중복 체크 이후 다른 경로로 같은 이메일이 가입되면 unique 제약에 걸립니다.
+     * 그 경우 다시 조회해서 겹친 이메일만 빼고 1번 더 시도합니다.
+     */
+    private List<User> insert(List<User> users, Progress progress) {
+        if (users.isEmpty()) {
+            return users;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> userBulkInsertRepository.insertAll(users));
+            return users;
+        } catch (DataIntegrityViolationException e) {
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                    users.stream().map(User::getEmail).toList()));
+            // 실패한 트랜잭션에서 ID가 할당되었으므로 새 엔티티로 다시 만듦
+            List<User> remaining = users.stream()
+                    .filter(user -> !existing.contains(user.getEmail()))
+                    .map(this::copyForInsert)
+                    .toList();
+
+            progress.duplicate += users.size() - remaining.size();
+            duplicateCounter.increment(users.size() - remaining.size());
+            transactionTemplate.executeWithoutResult(status -> userBulkInsertRepository.insertAll(remaining));
+            return remaining;
+        }
+    }
+
+    private User toUser(SignUpRequest request) {
+        return User.builder()
+                .email(request.getEmail())
+                .password(passwordEncoder.encode(request.getPassword()))
+                .name(request.getName())
+                .role(Role.USER)
+                .build();
+    }
+
+    private User copyForInsert(User user) {
+        return User.builder()
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .name(user.getName())
+                .role(user.getRole())
+                .build();
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("user_import.records")
+                .tag("outcome", outcome)
+                .description("대량 가입 처리 건수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+        hashingPool.shutdown();
+    }
+
+    /**
+     * 작업 진행 상황 (작업 1개 안에서만 사용)
+     */
+    private static class Progress {
+
+        private final String jobId;
+        private UserImportStatus status;
+        private String error;
+        private long lastLine;
+        private long imported;
+        private long invalid;
+        private long duplicate;
+
+        private Progress(String jobId) {
+            this.jobId = jobId;
+        }
+
+        private static Progress from(UserImportResponse checkpoint) {
+            Progress progress = new Progress(checkpoint.getJobId());
+            progress.error = checkpoint.getError();
+            progress.lastLine = checkpoint.getLastLine();
+            progress.imported = checkpoint.getImported();
+            progress.invalid = checkpoint.getInvalid();
+            progress.duplicate = checkpoint.getDuplicate();
+            return progress;
+        }
+
+        private UserImportResponse toResponse() {
+            return UserImportResponse.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .error(error)
+                    .lastLine(lastLine)
+                    .imported(imported)
+                    .invalid(invalid)
+                    .duplicate(duplicate)
+                    .build();
+        }
+    }
+}
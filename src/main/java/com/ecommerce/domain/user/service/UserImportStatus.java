@@ -0,0 +1,11 @@
+package com.ecommerce.domain.user.service;
+
+/**
+ * 대량 가입 작업 상태
+ */
+public enum UserImportStatus {
+    QUEUED, // 파일 업로드 완료, 실행 대기
+    RUNNING, // 실행 중 (서버가 재시작되면 이 상태로 남음 → 같은 jobId로 다시 보내면 이어서 처리)
+    COMPLETED, // 완료
+    FAILED // 실패 (error 참고, 같은 jobId로 다시 보내면 체크포인트 다음 줄부터 처리)
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.domain.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+
+/**
+ * 사용자 목록 keyset 커서 (마지막으로 받은 사용자의 가입일시 + ID)
+ *
+ * OFFSET은 앞 페이지를 모두 읽고 버리므로 뒤 페이지로 갈수록 느려집니다.
+ * 커서는 "이 사용자 다음부터"를 (created_at, id) 인덱스로 바로 찾으므로
+ * 10,000번째 페이지도 첫 페이지와 비용이 같습니다.
+ *
+ * 외부에는 Base64URL 문자열로 전달합니다. (형식은 바뀔 수 있으므로 클라이언트는 해석하지 않음)
+ *
+ * @param createdAt 마지막 사용자의 가입일시
+ * @param id        마지막 사용자의 ID (가입일시가 같을 때 순서 결정)
+ */
+public record UserPageCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static UserPageCursor of(UserSnapshot user) {
+        return new UserPageCursor(user.createdAt(), user.id());
+    }
+
+    /**
+     * 커서 문자열 → 커서
+     *
+     * @throws BusinessException 형식이 잘못된 경우 (COMMON_INVALID_INPUT)
+     */
+    public static UserPageCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new UserPageCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.COMMON_INVALID_INPUT, "잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 커서 → 커서 문자열
+     */
+    public String encode() {
+        String value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,13 +1,27 @@
 package com.ecommerce.domain.user.service;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ecommerce.domain.user.dto.response.UserLookupResponse;
+import com.ecommerce.domain.user.dto.response.UserPageResponse;
 import com.ecommerce.domain.user.dto.response.UserResponse;
-import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.domain.user.exception.UserNotFoundException;
 import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.global.common.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,19 +37,30 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class UserService {
 
+    // 관리자 목록 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 1_000;
+    // NDJSON 스트리밍 시 한 번에 읽는 페이지 크기 (페이지마다 flush)
+    private static final int STREAM_PAGE_SIZE = 1_000;
+
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
 
     /**
      * publicId로 사용자 조회
      * 
+     * UserCache를 거치므로 캐시 hit이면 DB 커넥션을 쓰지 않습니다.
+     * (트랜잭션을 열면 hit이어도 커넥션을 잡으므로 NOT_SUPPORTED)
+     * 
      * @param publicId 사용자 공개 ID
      * @return UserResponse
      * @throws UserNotFoundException 사용자를 찾을 수 없는 경우
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse findByPublicId(String publicId) {
         log.debug("사용자 조회 ");
-        User user = userRepository.findByPublicIdAndDeletedFalse(publicId).orElseThrow(() -> {
+        UserSnapshot user = userCache.findByPublicId(publicId).orElseThrow(() -> {
             log.warn("사용자를 찾을 수 없음 : publicId={}", publicId);
             throw new UserNotFoundException("사용자를 찾을 수 없습니다: " + publicId);
         });
@@ -43,6 +68,28 @@ public class UserService {
         return UserResponse.from(user);
     }
 
+    /**
+     * 여러 publicId로 사용자 일괄 조회
+     * 
+     * 단건 조회와 같은 캐시(UserCache)를 거치고, 캐시에 없는 사용자만 DB에서 한 번에 조회합니다.
+     * 
+     * @param publicIds 사용자 공개 ID 목록
+     * @return 요청 순서대로 조회 결과 (찾지 못한 ID는 found=false)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserLookupResponse> findAllByPublicIds(List<String> publicIds) {
+        log.debug("사용자 일괄 조회: size={}", publicIds.size());
+
+        Map<String, UserSnapshot> found = userCache.findAllByPublicIds(publicIds);
+
+        return publicIds.stream()
+                .map(publicId -> UuidV7.parse(publicId)
+                        .map(uuid -> found.get(uuid.toString()))
+                        .map(user -> UserLookupResponse.found(publicId, UserResponse.from(user)))
+                        .orElseGet(() -> UserLookupResponse.notFound(publicId)))
+                .toList();
+    }
+
     /**
      * 이메일로 이용자 정보 조회
      * 
@@ -50,10 +97,11 @@ public class UserService {
      * @return UserResponse
      * @throws UserNotFoundException 이용자를 찾을 수 없음.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse findByEmail(String email) {
         log.debug("사용자 조회: email={}", email);
 
-        User user = userRepository.findByEmailAndDeletedFalse(email).orElseThrow(() -> {
+        UserSnapshot user = userCache.findByEmail(email).orElseThrow(() -> {
             log.warn("사용자를 찾을 수 없음: email={}", email);
             throw new UserNotFoundException("사용자를 찾을 수 없습니다 : " + email);
         });
@@ -61,6 +109,81 @@ public class UserService {
         return UserResponse.from((user));
     }
 
+    /**
+     * 사용자 목록 조회 (관리자, keyset 페이지네이션)
+     * 
+     * (created_at, id) 커서 기준으로 다음 페이지를 조회합니다.
+     * 
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 사용자 목록 + 다음 페이지 커서
+     */
+    public UserPageResponse findPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 1건 더 읽어서 다음 페이지가 있는지 판단
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<UserSnapshot> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findFirstPage(limit);
+        } else {
+            UserPageCursor after = UserPageCursor.decode(cursor);
+            users = userRepository.findPageAfter(after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = users.size() > pageSize;
+        List<UserSnapshot> page = hasNext ? users.subList(0, pageSize) : users;
+
+        return UserPageResponse.builder()
+                .users(page.stream().map(UserResponse::from).toList())
+                .nextCursor(hasNext ? UserPageCursor.of(page.get(pageSize - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * 전체 사용자를 NDJSON으로 출력 (관리자, 스트리밍)
+     * 
+     * 한 줄에 사용자 1명 (UserResponse JSON)
+     * - DB에서는 keyset 페이지(findFirstPage / findPageAfter) 단위로 읽음
+     * - 이 메서드는 트랜잭션 없음(NOT_SUPPORTED), 페이지 조회 1번 = UserRepository의 읽기 전용 트랜잭션 1번
+     *   (인터페이스 레벨 @Transactional(readOnly = true), 복제본이 있으면 복제본에서 읽음)
+     *   → 커넥션은 페이지 조회 동안만 점유, 클라이언트에 쓰는 동안은 반납된 상태
+     * - 페이지를 다 쓰면 클라이언트로 내보냄
+     * → 사용자 수, 클라이언트 속도와 무관하게 메모리 / 커넥션 점유가 일정
+     * 
+     * 전체를 하나의 트랜잭션으로 묶지 않으므로 스트리밍 도중 가입/탈퇴한 사용자는
+     * 위치에 따라 포함될 수도, 빠질 수도 있습니다. (같은 사용자가 두 번 나오지는 않음)
+     * 
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 출력한 사용자 수
+     * @throws IOException 출력 실패 (클라이언트 연결 끊김 등)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long writeAllAsNdjson(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserResponse.class);
+        BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        Pageable limit = PageRequest.of(0, STREAM_PAGE_SIZE);
+        long count = 0;
+
+        List<UserSnapshot> page = userRepository.findFirstPage(limit);
+        while (!page.isEmpty()) {
+            for (UserSnapshot user : page) {
+                buffered.write(writer.writeValueAsBytes(UserResponse.from(user)));
+                buffered.write('\n');
+            }
+            buffered.flush();
+            count += page.size();
+
+            if (page.size() < STREAM_PAGE_SIZE) {
+                break;
+            }
+            UserSnapshot last = page.get(page.size() - 1);
+            page = userRepository.findPageAfter(last.createdAt(), last.id(), limit);
+        }
+
+        return count;
+    }
+
     /**
      * 비밀번호 검증
      * 
@@ -72,4 +195,42 @@ public class UserService {
         return passwordEncoder.matches(rawPassword, encodedPassword);
     }
 
+    /**
+     * 비밀번호 해시 교체 (로그인 시 cost 업그레이드)
+     * 
+     * 비밀번호 자체는 그대로이고 저장 형식(알고리즘, cost)만 바뀝니다.
+     * 조회 이후 사용자가 비밀번호를 바꿨다면 덮어쓰지 않습니다. (조건부 UPDATE 1번)
+     * 
+     * @param userId      사용자 ID
+     * @param currentHash 로그인 시 검증에 사용한 해시
+     * @param newHash     새 정책으로 만든 해시
+     */
+    @Transactional
+    public void upgradePasswordHash(Long userId, String currentHash, String newHash) {
+        if (userRepository.updatePasswordIfUnchanged(userId, currentHash, newHash, LocalDateTime.now()) == 1) {
+            log.info("비밀번호 해시 업그레이드 완료: userId={}", userId);
+        }
+    }
+
+    /**
+     * 비밀번호 변경 (사용자가 직접 변경)
+     * 
+     * 검증에 사용한 해시가 그대로일 때만 바꿉니다. (조건부 UPDATE 1번)
+     * (검증과 저장 사이에 다른 요청이 먼저 비밀번호를 바꿨으면 덮어쓰지 않음)
+     * 
+     * @param userId      사용자 ID
+     * @param currentHash 현재 비밀번호 검증에 사용한 해시
+     * @param newHash     새 비밀번호 해시
+     * @return 변경 여부
+     */
+    @Transactional
+    public boolean changePassword(Long userId, String currentHash, String newHash) {
+        boolean changed = userRepository.updatePasswordIfUnchanged(
+                userId, currentHash, newHash, LocalDateTime.now()) == 1;
+        if (changed) {
+            log.info("비밀번호 변경 완료: userId={}", userId);
+        }
+        return changed;
+    }
+
 }
@@ -0,0 +1,68 @@
+package com.ecommerce.domain.user.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.ecommerce.domain.user.entity.Role;
+import com.ecommerce.domain.user.entity.User;
+
+/**
+ * 캐시에 보관하는 사용자 정보 (불변)
+ *
+ * - 엔티티를 그대로 캐시에 넣으면 다른 스레드가 같은 객체를 수정할 수 있고,
+ *   영속성 컨텍스트와 얽혀서 직렬화도 어려움
+ * - 조회 API(UserResponse)와 인증(CustomUserDetails)에 필요한 값만 보관
+ * - 비밀번호 해시는 보관하지 않음 (Redis에 해시를 퍼뜨리지 않도록)
+ *
+ * @param id        내부 ID
+ * @param publicId  외부 노출용 ID (UUID 문자열)
+ * @param email     이메일
+ * @param name      이름
+ * @param role      역할
+ * @param createdAt 가입일시
+ */
+public record UserSnapshot(
+        Long id,
+        String publicId,
+        String email,
+        String name,
+        Role role,
+        LocalDateTime createdAt) {
+
+    /**
+     * JPQL 생성자 표현식용 (UserRepository.findSnapshotBy...)
+     *
+     * DB의 public_id는 uuid 타입이므로 UUID로 받아 문자열로 바꿉니다.
+     */
+    public UserSnapshot(Long id, UUID publicId, String email, String name, Role role, LocalDateTime createdAt) {
+        this(id, publicId.toString(), email, name, role, createdAt);
+    }
+
+    /**
+     * Entity → 스냅샷
+     */
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getPublicId(),
+                user.getEmail(),
+                user.getName(),
+                user.getRole(),
+                user.getCreatedAt());
+    }
+
+    /**
+     * 영속성 컨텍스트와 무관한 User (인증 정보 구성용)
+     *
+     * 비밀번호는 null입니다. 로그인(비밀번호 검증)에는 사용하지 마세요.
+     */
+    public User toDetachedUser() {
+        return User.builder()
+                .id(id)
+                .publicId(UUID.fromString(publicId))
+                .email(email)
+                .name(name)
+                .role(role)
+                .build();
+    }
+}
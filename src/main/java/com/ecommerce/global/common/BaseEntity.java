@@ -29,6 +29,27 @@ import java.time.LocalDateTime;
 @MappedSuperclass  // ← 이게 핵심!(공통 매핑 정보만 제공하는 부모 클래스를 만들 때 사용하는 애노테이션)
 @EntityListeners(AuditingEntityListener.class)  //엔티티의 생성/수정 시점(Auditing) 을 자동으로 관리
 public abstract class BaseEntity {
+
+    /**
+     * 시퀀스 ID 할당 크기 (pooled-lo)
+     * 
+     * IDENTITY 대신 시퀀스를 쓰면 Hibernate가 INSERT를 모아서 배치로 보낼 수 있습니다.
+     * - IDENTITY: INSERT를 실행해야 ID를 알 수 있음 → 건마다 즉시 실행 (배치 불가)
+     * - SEQUENCE + pooled-lo: nextval 1번으로 ID 50개를 미리 확보 → INSERT는 flush 때 배치로
+     * 
+     * 하위 엔티티 사용 방법 ({table}은 엔티티의 테이블 이름, 예: users → users_seq):
+     * @Id
+     * @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "{table}_seq")
+     * @SequenceGenerator(name = "{table}_seq", sequenceName = "{table}_seq", allocationSize = ID_ALLOCATION_SIZE)
+     * private Long id;
+     *
+     * 엔티티마다 자기 시퀀스가 필요합니다 (다른 엔티티의 시퀀스를 같이 쓰지 않음).
+     * - Flyway 마이그레이션으로 생성: CREATE SEQUENCE {table}_seq INCREMENT BY 50 (= ID_ALLOCATION_SIZE)
+     * - INCREMENT BY가 이 값과 다르면 서버끼리 같은 ID를 할당할 수 있음 (예: V1__create_users_seq.sql)
+     *
+     * pooled-lo 최적화는 application.yml의 hibernate.id.optimizer.pooled.preferred로 전역 적용됩니다.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
     
     /**
      * 생성 시간
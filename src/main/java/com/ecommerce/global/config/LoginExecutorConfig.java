@@ -0,0 +1,61 @@
+package com.ecommerce.global.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.ecommerce.global.security.password.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * 로그인 실행기 설정
+ *
+ * 로그인은 두 단계로 나뉘어 서로 다른 실행기에서 실행됩니다. (AuthService.login)
+ * 1. 비밀번호 비교 (BCrypt, CPU) → PasswordHashingExecutor
+ * 2. 해싱 이후 단계 (토큰 발급, 해시 업그레이드 저장 → Redis/DB I/O) → 여기서 정의하는 실행기
+ *
+ * 2번도 크기가 정해진 대기열을 씁니다.
+ * - Spring Boot 기본 applicationTaskExecutor는 대기열 크기 제한이 없음
+ *   → Redis/DB가 느려지면 로그인 폭주 동안 대기 작업이 끝없이 쌓임 (메모리, 응답 시간)
+ * - 가득 차면 기다리지 않고 즉시 503 (해싱 실행기와 같은 정책)
+ *
+ * 지표:
+ * - executor.* (name=login-post-hash): 실행 중/대기 중 작업 수, 처리 시간
+ * - login.post_hash.rejected: 대기열이 가득 차서 거절된 작업 수
+ */
+@Configuration
+public class LoginExecutorConfig {
+
+    /**
+     * 해싱 이후 단계 실행기 이름 (@Qualifier로 주입)
+     */
+    public static final String POST_HASH_EXECUTOR = "loginPostHashExecutor";
+
+    @Bean(name = POST_HASH_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService loginPostHashExecutor(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("login.post_hash.rejected")
+                .description("대기열 초과로 거절된 로그인 후처리(토큰 발급 등) 작업 수")
+                .register(meterRegistry);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                properties.getPostHashPoolSize(),
+                properties.getPostHashPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getPostHashQueueCapacity()),
+                Thread.ofPlatform().name("login-post-hash-", 1).daemon(true).factory(),
+                (task, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("로그인 후처리 대기열 초과: queued=" + pool.getQueue().size());
+                });
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "login-post-hash");
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * Micrometer 지표 설정
+ *
+ * 경로(route) 태그는 요청 URI에서 만들어지므로,
+ * 알 수 없는 경로가 대량으로 들어오면 지표 수가 끝없이 늘어날 수 있습니다.
+ * → 태그 값 종류를 제한하고, 넘치면 그 이후 지표는 버림
+ */
+@Configuration
+public class MetricsConfig {
+
+    // JWT 인증 지표의 route 태그 최대 종류 수
+    private static final int MAX_ROUTE_TAGS = 100;
+
+    @Bean
+    public MeterFilter jwtAuthenticationRouteLimit() {
+        return MeterFilter.maximumAllowableTags(
+                "security.jwt.authentication",
+                "route",
+                MAX_ROUTE_TAGS,
+                MeterFilter.deny());
+    }
+}
@@ -5,15 +5,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
 import java.time.Duration;
 
 /**
@@ -30,7 +36,7 @@ public class RedisConfig {
      * Redis 연결 팩토리 생성 (고급 설정 포함)
      */
     @Bean
-    RedisConnectionFactory redisConnectionFactory() {
+    LettuceConnectionFactory redisConnectionFactory() {
         // 1. Redis Standalone 설정
         RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration();
         redisConfig.setHostName(redisProperties.getHost());
@@ -83,7 +89,11 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
 
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        // LocalDateTime 등 java.time 타입 지원 (예: UserCache의 UserSnapshot.createdAt)
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> objectMapper
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
 
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
@@ -96,4 +106,33 @@ public class RedisConfig {
 
         return template;
     }
+
+    /**
+     * 비동기(Reactive) 문자열 템플릿
+     * 
+     * Lettuce 비동기 API 위에서 동작하므로 요청 스레드를 막지 않습니다.
+     * (예: Refresh Token FIRE_AND_CONFIRM 저장)
+     */
+    @Bean
+    ReactiveStringRedisTemplate reactiveStringRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        log.info("ReactiveStringRedisTemplate 빈 생성 완료");
+
+        return new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Redis Pub/Sub 리스너 컨테이너
+     * 
+     * 서버 간 이벤트 전파에 사용합니다. (예: 로그아웃 → 블랙리스트 동기화)
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setRecoveryInterval(1000L); // 연결 끊김 시 1초 간격으로 재구독 시도
+
+        log.info("RedisMessageListenerContainer 빈 생성 완료");
+
+        return container;
+    }
 }
\ No newline at end of file
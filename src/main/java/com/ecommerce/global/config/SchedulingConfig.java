@@ -0,0 +1,10 @@
+package com.ecommerce.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 메서드가 자동으로 실행됩니다! (블랙리스트 동기화 등)
+@Configuration
+@EnableScheduling // 스케줄링 활성화
+public class SchedulingConfig {
+}
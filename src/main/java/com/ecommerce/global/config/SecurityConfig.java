@@ -1,7 +1,9 @@
 package com.ecommerce.global.config;
 
+import com.ecommerce.global.security.PublicEndpoints;
 import com.ecommerce.global.security.jwt.JwtAuthenticationEntryPoint;
 import com.ecommerce.global.security.jwt.JwtAuthenticationFilter;
+import com.ecommerce.global.security.password.PasswordHashingPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,7 +12,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -49,11 +50,15 @@ public class SecurityConfig {
      * - 단방향 암호화
      * - 레인보우 테이블 공격 방어
      * 
+     * cost는 설정(security.password-hashing.strength)으로 고정됩니다. (PasswordHashingPolicy)
+     * - 저장 형식: {bcrypt}$2a$12$...
+     * - 접두사 없는 기존 해시도 검증 가능
+     * 
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingPolicy passwordHashingPolicy) {
+        return passwordHashingPolicy.createPasswordEncoder();
     }
 
     /**
@@ -90,20 +95,9 @@ public class SecurityConfig {
 
                 // URL별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
-                        // Public 엔드포인트 (인증 불필요)
-                        .requestMatchers(
-                                "/api/auth/**", // 로그인, 회원가입
-                                "/api/users/signup", // 회원가입
-                                "/error", // 에러 페이지
-                                "/favicon.ico" // 파비콘
-                        ).permitAll()
-
-                        // Swagger (개발 환경)
-                        .requestMatchers(
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**",
-                                "/swagger-resources/**")
-                        .permitAll()
+                        // Public 엔드포인트 (인증 불필요, Swagger 포함)
+                        // JwtAuthenticationFilter도 같은 목록으로 토큰 처리를 생략
+                        .requestMatchers(PublicEndpoints.MATCHER).permitAll()
 
                         // 관리자 전용
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
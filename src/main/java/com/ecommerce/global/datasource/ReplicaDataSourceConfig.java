@@ -0,0 +1,100 @@
+package com.ecommerce.global.datasource;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션 → 복제본 라우팅 설정
+ *
+ * 왜 필요한가?
+ * - 트래픽의 대부분이 읽기 (@Transactional(readOnly = true))
+ * - 모든 요청이 primary 1대, Hikari 풀 1개로 감 → 읽기를 수평 확장할 수 없음
+ *
+ * 구성 (datasource.replicas.enabled=true일 때만):
+ * - primaryDataSource: 기존 spring.datasource.* (Hikari)
+ * - replicaRoutingDataSource: 복제본별 Hikari 풀 + 선택/지연 확인/primary 폴백
+ * - dataSource (@Primary): LazyConnectionDataSourceProxy
+ *   - 트랜잭션 시작 시점에는 실제 커넥션을 받지 않고, 첫 SQL 실행 시점에
+ *     readOnly 여부를 보고 primary 또는 복제본에서 받음
+ *   - (트랜잭션 매니저가 readOnly 표시를 하기 전에 커넥션을 받으면 라우팅이 안 되므로 필요)
+ *
+ * 주의:
+ * - 복제본은 비동기 복제라 방금 쓴 데이터가 안 보일 수 있음
+ *   쓰기 직후 같은 데이터를 다시 읽어야 하면 readOnly가 아닌 트랜잭션에서 읽을 것
+ * - Flyway, 쓰기 트랜잭션은 항상 primary
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSourceProperties properties,
+            MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = properties.getNodes().stream()
+                .map(node -> createReplicaPool(node, meterRegistry))
+                .toList();
+
+        log.info("읽기 복제본 라우팅 활성화: replicas={}, strategy={}, maxLag={}",
+                replicas.stream().map(HikariDataSource::getPoolName).toList(),
+                properties.getStrategy(),
+                properties.getMaxLag());
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    /**
+     * 복제본 1개의 커넥션 풀
+     *
+     * - 읽기 전용 커넥션 (실수로 쓰기가 가도 DB가 거부)
+     * - 복제본이 죽어 있어도 애플리케이션은 시작됨 (상태 확인에서 제외 후 primary로 폴백)
+     */
+    private HikariDataSource createReplicaPool(ReplicaDataSourceProperties.Node node, MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(node.getName());
+        pool.setJdbcUrl(node.getUrl());
+        pool.setUsername(node.getUsername());
+        pool.setPassword(node.getPassword());
+        pool.setMaximumPoolSize(node.getMaximumPoolSize());
+        pool.setConnectionTimeout(node.getConnectionTimeout().toMillis());
+        pool.setReadOnly(true);
+        pool.setInitializationFailTimeout(-1);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
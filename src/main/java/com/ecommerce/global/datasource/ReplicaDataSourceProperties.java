@@ -0,0 +1,67 @@
+package com.ecommerce.global.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/* 
+ * 읽기 복제본(replica) 설정 Properties
+ * 
+ * application.yml의 datasource.replicas.* 값을 자동으로 매핑
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replicas")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * PostgreSQL 복제 지연 (초)
+     * 
+     * - 복제본이 아니면 0
+     * - WAL 수신이 끊겼으면 (pg_stat_wal_receiver.status가 streaming이 아님) 무한대
+     *   → 받은 WAL은 다 적용했어도 primary보다 얼마나 뒤처졌는지 알 수 없으므로 제외
+     * - 받은 WAL을 모두 적용했으면 마지막 수신 이후 경과 시간 - wal_receiver_timeout / 2
+     *   (primary에 쓰기가 없어도 이 주기 안에는 keepalive가 오므로, 그보다 오래 조용하면 그만큼 뒤처진 것)
+     *   → 쓰기가 없을 때 지연이 계속 늘어나 보이는 문제 없이, 멈춘 수신은 잡아냄
+     * - 아니면 마지막으로 적용한 트랜잭션 이후 경과 시간
+     * 
+     * 복제본 계정에 pg_read_all_stats 권한이 필요합니다. (GRANT pg_read_all_stats TO ecommerce_ro)
+     * 권한이 없으면 pg_stat_wal_receiver의 status가 NULL로 보여 모든 복제본이 제외됩니다. (primary로 폴백)
+     */
+    public static final String POSTGRESQL_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming')
+                    THEN 'Infinity'::float8
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN GREATEST(0,
+                    EXTRACT(EPOCH FROM now() - (SELECT last_msg_receipt_time FROM pg_stat_wal_receiver))
+                    - EXTRACT(EPOCH FROM current_setting('wal_receiver_timeout')::interval) / 2)
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END::float8""";
+
+    private boolean enabled = false; // true면 읽기 전용 트랜잭션을 복제본으로 보냄
+    private ReplicaSelectionStrategy strategy = ReplicaSelectionStrategy.ROUND_ROBIN; // 복제본 선택 방식
+    private Duration maxLag = Duration.ofSeconds(5); // 이보다 뒤처진 복제본은 제외
+    private Duration checkInterval = Duration.ofSeconds(5); // 상태/지연 확인 주기
+    private String lagQuery = POSTGRESQL_LAG_QUERY; // 비어 있으면 지연 확인 없이 연결만 확인 (H2 등)
+    private List<Node> nodes = new ArrayList<>(); // 복제본 목록
+
+    @Getter
+    @Setter
+    public static class Node {
+
+        private String name; // 풀 이름, 지표 태그 (예: replica-1)
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private Duration connectionTimeout = Duration.ofSeconds(2); // 복제본이 죽었을 때 오래 기다리지 않고 primary로 넘어가도록 짧게
+    }
+}
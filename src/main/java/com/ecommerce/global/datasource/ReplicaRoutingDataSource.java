@@ -0,0 +1,201 @@
+package com.ecommerce.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 커넥션 → 복제본(replica) 선택
+ *
+ * LazyConnectionDataSourceProxy의 readOnlyDataSource로 등록됩니다.
+ * (@Transactional(readOnly = true) 트랜잭션만 이 DataSource에서 커넥션을 받음)
+ *
+ * 선택 방식 (datasource.replicas.strategy):
+ * - ROUND_ROBIN: 사용 가능한 복제본을 순서대로
+ * - LEAST_CONNECTIONS: 사용 중인 커넥션이 가장 적은 복제본
+ *
+ * 사용 가능한 복제본:
+ * - 마지막 상태 확인에서 연결 성공 + 복제 지연이 maxLag 이하
+ * - checkInterval마다 lagQuery로 확인 (비어 있으면 연결만 확인)
+ *
+ * primary로 넘어가는 경우 (fallback):
+ * - 사용 가능한 복제본이 없을 때
+ * - 선택한 복제본에서 커넥션을 못 받았을 때 (그 복제본은 다음 확인까지 제외)
+ *
+ * 모니터링:
+ * - datasource.replica.available{replica} (1: 사용 가능, 0: 제외)
+ * - datasource.replica.lag{replica} (초)
+ * - datasource.replica.fallback (primary로 넘어간 횟수)
+ * - hikaricp.connections.*{pool=replica-1} (복제본별 커넥션 풀)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<ReplicaNode> nodes;
+    private final ReplicaSelectionStrategy strategy;
+    private final Duration maxLag;
+    private final String lagQuery;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<HikariDataSource> replicas,
+            ReplicaDataSourceProperties properties,
+            MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.strategy = properties.getStrategy();
+        this.maxLag = properties.getMaxLag();
+        this.lagQuery = properties.getLagQuery();
+        this.nodes = replicas.stream().map(ReplicaNode::new).toList();
+
+        this.fallbackCounter = Counter.builder("datasource.replica.fallback")
+                .description("사용 가능한 복제본이 없어 primary로 보낸 읽기 커넥션 수")
+                .register(meterRegistry);
+        for (ReplicaNode node : nodes) {
+            Gauge.builder("datasource.replica.available", node, n -> n.isAvailable() ? 1 : 0)
+                    .tag("replica", node.name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", node, n -> n.lagSeconds)
+                    .tag("replica", node.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        List<ReplicaNode> available = availableNodes();
+        if (!available.isEmpty()) {
+            ReplicaNode node = select(available);
+            try {
+                return node.pool.getConnection();
+            } catch (SQLException e) {
+                node.markDown(e);
+            }
+        }
+
+        fallbackCounter.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복제본 커넥션은 설정된 계정으로만 받을 수 있습니다");
+    }
+
+    /**
+     * 복제본 상태/지연 확인 (주기 실행)
+     */
+    @Scheduled(fixedDelayString = "#{@replicaDataSourceProperties.checkInterval.toMillis()}")
+    public void checkReplicas() {
+        for (ReplicaNode node : nodes) {
+            try (Connection connection = node.pool.getConnection()) {
+                node.markUp(StringUtils.hasText(lagQuery) ? queryLag(connection) : 0.0);
+            } catch (SQLException e) {
+                node.markDown(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        nodes.forEach(node -> node.pool.close());
+    }
+
+    private List<ReplicaNode> availableNodes() {
+        List<ReplicaNode> available = new ArrayList<>(nodes.size());
+        for (ReplicaNode node : nodes) {
+            if (node.isAvailable()) {
+                available.add(node);
+            }
+        }
+        return available;
+    }
+
+    private ReplicaNode select(List<ReplicaNode> available) {
+        if (strategy == ReplicaSelectionStrategy.LEAST_CONNECTIONS) {
+            return available.stream()
+                    .min(Comparator.comparingInt(ReplicaNode::activeConnections))
+                    .orElseThrow();
+        }
+        return available.get(Math.floorMod(sequence.getAndIncrement(), available.size()));
+    }
+
+    private double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0.0;
+        }
+    }
+
+    /**
+     * 복제본 1개 (커넥션 풀 + 마지막 확인 결과)
+     */
+    private class ReplicaNode {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private volatile boolean up = true;
+        private volatile double lagSeconds = 0.0;
+
+        private ReplicaNode(HikariDataSource pool) {
+            this.name = pool.getPoolName();
+            this.pool = pool;
+        }
+
+        private boolean isAvailable() {
+            return up && !isLagging(lagSeconds);
+        }
+
+        private boolean isLagging(double lag) {
+            return lag * 1000 > maxLag.toMillis();
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            return bean != null ? bean.getActiveConnections() : 0;
+        }
+
+        private void markUp(double lag) {
+            if (!up) {
+                log.info("복제본 복구: replica={}", name);
+            }
+            if (isLagging(lag) && !isLagging(lagSeconds)) {
+                log.warn("복제본 지연 초과, 읽기에서 제외: replica={}, lag={}s", name, lag);
+            }
+            lagSeconds = lag;
+            up = true;
+        }
+
+        private void markDown(SQLException e) {
+            if (up) {
+                log.warn("복제본 연결 실패, 읽기에서 제외: replica={}, error={}", name, e.getMessage());
+            }
+            up = false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.global.datasource;
+
+/**
+ * 읽기 복제본 선택 방식
+ */
+public enum ReplicaSelectionStrategy {
+
+    /**
+     * 순서대로 돌아가며 선택 (복제본 사양이 같을 때)
+     */
+    ROUND_ROBIN,
+
+    /**
+     * 사용 중인 커넥션이 가장 적은 복제본 선택 (느린 쿼리가 한쪽에 몰릴 때)
+     */
+    LEAST_CONNECTIONS
+}
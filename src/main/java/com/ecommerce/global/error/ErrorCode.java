@@ -43,6 +43,7 @@ import org.springframework.http.HttpStatus;
  * 404 Not Found: 리소스 없음 (NOT_FOUND)
  * 409 Conflict: 충돌 (DUPLICATE, ALREADY_EXISTS)
  * 500 Internal Server Error: 서버 오류 (INTERNAL_ERROR)
+ * 503 Service Unavailable: 일시적 과부하 (SERVICE_UNAVAILABLE)
  * </pre>
  * 
  * <h3>사용 예시</h3>
@@ -242,6 +243,46 @@ public enum ErrorCode {
             "COMMON-005",
             "요청한 리소스를 찾을 수 없습니다"),
 
+    /**
+     * COMMON_SERVICE_UNAVAILABLE
+     * 
+     * <p>
+     * <b>HTTP 상태:</b> 503 Service Unavailable
+     * </p>
+     * <p>
+     * <b>에러 코드:</b> COMMON-006
+     * </p>
+     * 
+     * <p>
+     * <b>발생 시점:</b>
+     * </p>
+     * <ul>
+     * <li>비밀번호 해싱 전용 스레드 풀 + 대기열이 가득 참</li>
+     * <li>로그인 해싱 이후 단계(토큰 발급) 실행기 대기열이 가득 참</li>
+     * <li>비동기 응답(로그인) 대기 시간 초과</li>
+     * <li>로그인 요청 폭주 (Credential Stuffing 등)</li>
+     * </ul>
+     * 
+     * <p>
+     * <b>왜 바로 실패시키나?</b>
+     * </p>
+     * <ul>
+     * <li>요청을 끝없이 쌓으면 다른 API까지 느려짐</li>
+     * <li>빠르게 503을 돌려주고 클라이언트가 재시도하도록 함</li>
+     * </ul>
+     * 
+     * <p>
+     * <b>해결 방법:</b>
+     * </p>
+     * <ul>
+     * <li>잠시 후 재시도</li>
+     * </ul>
+     */
+    COMMON_SERVICE_UNAVAILABLE(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "COMMON-006",
+            "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+
     // ========================================
     // 인증/인가 에러 (AUTH)
     // ========================================
@@ -627,6 +668,36 @@ public enum ErrorCode {
             "USER-003",
             "접근 권한이 없습니다"),
 
+    /**
+     * USER_JOB_IN_PROGRESS
+     *
+     * <p>
+     * <b>HTTP 상태:</b> 409 Conflict
+     * </p>
+     * <p>
+     * <b>에러 코드:</b> USER-004
+     * </p>
+     *
+     * <p>
+     * <b>발생 시점:</b>
+     * </p>
+     * <ul>
+     * <li>실행 중인 대량 가입 / 내보내기 작업과 같은 jobId로 다시 요청</li>
+     * </ul>
+     *
+     * <p>
+     * <b>참고:</b>
+     * </p>
+     * <ul>
+     * <li>같은 파일과 체크포인트를 두 요청이 동시에 쓰지 않도록 거절</li>
+     * <li>작업이 끝난 뒤 같은 jobId로 다시 보내면 체크포인트 다음부터 이어서 처리</li>
+     * </ul>
+     */
+    USER_JOB_IN_PROGRESS(
+            HttpStatus.CONFLICT,
+            "USER-004",
+            "같은 jobId의 작업이 이미 실행 중입니다"),
+
     // ========================================
     // 상품 에러 (PRODUCT)
     // ========================================
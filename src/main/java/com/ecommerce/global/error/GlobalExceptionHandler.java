@@ -7,6 +7,7 @@ import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.List;
@@ -131,12 +132,24 @@ public class GlobalExceptionHandler {
                  * - 메시지
                  * - 스택 트레이스 (전체)
                  */
-                log.error("BusinessException 발생 - code: {}, message: {}",
-                                e.getErrorCode().getCode(),
-                                e.getMessage(),
-                                e);
-
                 ErrorCode errorCode = e.getErrorCode();
+
+                /**
+                 * 과부하로 거절한 요청(503)은 WARN 한 줄만 (스택 트레이스 X)
+                 * 
+                 * 로그인 폭주 때 초당 수백 건이 거절되는데,
+                 * 거절할 때마다 스택 트레이스를 쓰면 "빨리 거절해서 CPU를 아끼는" 의미가 없어짐
+                 * (건수는 password_hashing.rejected, login.post_hash.rejected 지표로 확인)
+                 */
+                if (errorCode == ErrorCode.COMMON_SERVICE_UNAVAILABLE) {
+                        log.warn("과부하로 요청 거절 - code: {}", errorCode.getCode());
+                } else {
+                        log.error("BusinessException 발생 - code: {}, message: {}",
+                                        e.getErrorCode().getCode(),
+                                        e.getMessage(),
+                                        e);
+                }
+
                 ErrorResponse response = ErrorResponse.of(errorCode);
 
                 return ResponseEntity
@@ -499,6 +512,27 @@ public class GlobalExceptionHandler {
                                 .body(response);
         }
 
+        /**
+         * 비동기 요청 시간 초과 처리 (로그인 등 CompletableFuture 응답)
+         * 
+         * @param e AsyncRequestTimeoutException
+         * @return ErrorResponse (503 Service Unavailable)
+         */
+        @ExceptionHandler(AsyncRequestTimeoutException.class)
+        protected ResponseEntity<ErrorResponse> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException e) {
+                /**
+                 * 비동기 응답(로그인 등) 시간 초과 → 503
+                 * 
+                 * 대기열에서 기다리다 시간이 다 된 요청은 서버 오류(500)가 아니라 과부하
+                 * → 클라이언트가 잠시 후 재시도하도록 COMMON_SERVICE_UNAVAILABLE
+                 */
+                log.warn("비동기 요청 시간 초과 - code: {}", ErrorCode.COMMON_SERVICE_UNAVAILABLE.getCode());
+
+                return ResponseEntity
+                                .status(ErrorCode.COMMON_SERVICE_UNAVAILABLE.getStatus())
+                                .body(ErrorResponse.of(ErrorCode.COMMON_SERVICE_UNAVAILABLE));
+        }
+
         /**
          * 예상하지 못한 모든 예외 처리 (Exception)
          * 
@@ -0,0 +1,50 @@
+package com.ecommerce.global.security;
+
+import java.util.Arrays;
+
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 인증 없이 접근 가능한 엔드포인트 목록
+ *
+ * SecurityConfig(permitAll)와 JwtAuthenticationFilter(토큰 처리 생략)가
+ * 같은 목록을 공유합니다.
+ * → 한쪽만 수정해서 규칙이 어긋나는 일을 방지
+ *
+ * 사용 예시:
+ * if (PublicEndpoints.MATCHER.matches(request)) {
+ *     // 토큰 파싱, 블랙리스트 조회 생략
+ * }
+ */
+public final class PublicEndpoints {
+
+    /**
+     * Public 엔드포인트 패턴
+     */
+    public static final String[] PATTERNS = {
+            // 인증
+            "/api/auth/**", // 로그인, 회원가입
+            "/api/users/signup", // 회원가입
+            "/error", // 에러 페이지
+            "/favicon.ico", // 파비콘
+            "/.well-known/jwks.json", // 토큰 검증용 공개키 (JWKS)
+
+            // Swagger (개발 환경)
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/swagger-resources/**"
+    };
+
+    /**
+     * PATTERNS 중 하나라도 일치하면 true
+     */
+    public static final RequestMatcher MATCHER = new OrRequestMatcher(
+            Arrays.stream(PATTERNS)
+                    .map(pattern -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(pattern))
+                    .toList());
+
+    private PublicEndpoints() {
+    }
+}
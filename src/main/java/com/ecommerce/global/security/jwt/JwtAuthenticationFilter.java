@@ -8,6 +8,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.ecommerce.domain.user.service.UserActivityTracker;
+import com.ecommerce.global.security.PublicEndpoints;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,10 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * JWT 인증 필터
  * 
- * 모든 HTTP 요청을 가로채서 JWT 토큰을 검증합니다.
+ * Public 엔드포인트를 제외한 모든 HTTP 요청을 가로채서 JWT 토큰을 검증합니다.
  * - Authorization 헤더에서 토큰 추출
- * - 토큰 유효성 검증
+ * - 토큰 유효성 검증 + 인증 정보 추출 (토큰은 1번만 파싱)
  * - SecurityContext에 인증 정보 저장
+ * - 마지막 활동 시간 기록 (UserActivityTracker, 메모리에만 쓰고 DB는 나중에 모아서)
  * 
  * OncePerRequestFilter:
  * - 요청당 1번만 실행 보장
@@ -33,6 +39,11 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserActivityTracker userActivityTracker;
+    private final MeterRegistry meterRegistry;
+
+    // 인증 처리 시간 지표 이름 (/actuator/metrics/security.jwt.authentication)
+    private static final String METRIC_NAME = "security.jwt.authentication";
 
     // Authorization 헤더 이름
     private static final String AUTHORIZATION_HEADER = "Authorization";
@@ -42,33 +53,81 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        // 인증에 걸린 시간 측정 (경로별)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "NO_TOKEN";
+
         try {
             // 1. 요청에서 JWT 토큰 추출
             String jwt = resolveToken(request);
 
-            // 2. 토큰이 있고 유효한지 검증
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-
-                // 3. 토큰에서 인증 정보 추출
-                Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-
-                // 4. SecurityContext에 인증 정보 저장
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.debug("Security Context에 '{}' 인증 정보 저장, uri: {}",
-                        authentication.getName(), request.getRequestURI());
+            // 2. 토큰이 있으면 검증 + 인증 정보 추출 (1회 파싱)
+            if (StringUtils.hasText(jwt)) {
+                JwtVerificationResult result = jwtTokenProvider.verifyAccessToken(jwt);
+
+                if (result.isValid()) {
+                    // 3. SecurityContext에 인증 정보 저장
+                    Authentication authentication = result.getAuthentication();
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    userActivityTracker.record(authentication.getName());
+                    outcome = "SUCCESS";
+
+                    log.debug("Security Context에 '{}' 인증 정보 저장, uri: {}",
+                            authentication.getName(), request.getRequestURI());
+                } else {
+                    outcome = result.getFailureReason().name();
+                    log.debug("유효하지 않은 JWT 토큰입니다: reason={}, uri: {}",
+                            result.getFailureReason(), request.getRequestURI());
+                }
             } else {
                 log.debug("유효한 JWT 토큰이 없습니다, uri: {}", request.getRequestURI());
             }
         } catch (Exception e) {
+            outcome = "ERROR";
             log.error("SecurityContext에서 사용자 인증 정보를 설정할 수 없습니다", e);
         }
 
-        // 5. 다음 필터로 요청 전달
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("JWT 인증 처리 시간")
+                .tag("route", routeOf(request))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+
+        // 4. 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
 
     }
 
+    /**
+     * Public 엔드포인트는 필터 자체를 건너뜀
+     * 
+     * SecurityConfig의 permitAll 목록(PublicEndpoints)과 동일한 기준입니다.
+     * → 헤더에 토큰이 있어도 파싱, 블랙리스트 조회를 하지 않음
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.MATCHER.matches(request);
+    }
+
+    /**
+     * 지표용 경로 태그 (앞 2개 세그먼트)
+     * 
+     * /api/users/{publicId} → /api/users
+     * (경로 변수마다 태그가 생기지 않도록 묶음)
+     */
+    private String routeOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int end = 0;
+        for (int segment = 0; segment < 2; segment++) {
+            int next = uri.indexOf('/', end + 1);
+            if (next < 0) {
+                return uri;
+            }
+            end = next;
+        }
+        return uri.substring(0, end);
+    }
+
     /**
      * HTTP 요청 헤더에서 토큰 추출
      * 
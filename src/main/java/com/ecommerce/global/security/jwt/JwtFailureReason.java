@@ -0,0 +1,18 @@
+package com.ecommerce.global.security.jwt;
+
+/**
+ * JWT 검증 실패 사유
+ *
+ * JwtVerificationResult에 담겨 필터/서비스가 실패 원인을 구분할 때 사용합니다.
+ */
+public enum JwtFailureReason {
+    EMPTY, // 토큰 없음 (null, 빈 문자열)
+    BLACKLISTED, // 로그아웃된 토큰
+    REVOKED_VERSION, // 토큰 버전이 현재 버전보다 낮음 (모든 기기 로그아웃, 비밀번호 변경)
+    EXPIRED, // 만료된 토큰
+    INVALID_SIGNATURE, // 서명 불일치
+    MALFORMED, // 형식이 잘못된 토큰
+    UNSUPPORTED, // 지원하지 않는 토큰 (서명 없는 JWT 등)
+    MISSING_AUTHORITIES, // 권한 정보가 없는 Access Token
+    INVALID // 그 밖의 검증 실패
+}
@@ -0,0 +1,455 @@
+package com.ecommerce.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명 키 + 검증 키링(keyring) + 파서 보관소
+ *
+ * 왜 필요한가?
+ * - 예전에는 요청마다 secret → byte[] → SecretKey 변환 + Jwts.parser() 생성
+ * - HS256 비밀키 하나로 서명 → 검증하는 모든 서비스가 비밀키를 공유해야 하고,
+ *   키를 바꾸면 모든 사용자가 로그아웃됨
+ *
+ * 동작 방식:
+ * - 파서는 애플리케이션 전체에서 1개 (불변 객체라 여러 스레드가 공유해도 안전)
+ * - 파서는 토큰 헤더의 kid로 검증 키를 찾음 (keyLocator)
+ *   - kid 없음 → HS256 비밀키 (HS256 모드, 또는 비대칭 모드의 전환 기간)
+ *   - kid 있음 → 키링의 공개키 (로컬에 없으면 Redis "JWKS"에서 조회)
+ * - 서명 키는 스냅샷(JwtSigningKey)으로 AtomicReference에 보관
+ *   → 교체 중에도 kid와 개인키가 서로 다른 버전을 가리키는 순간이 없음
+ *
+ * 비대칭 키 (jwt.signing.algorithm = ES256 / ED25519):
+ * - 서버마다 자기 키 쌍을 만들고, 개인키는 메모리에만 보관 (외부로 나가지 않음)
+ * - 공개키는 JWK 형태로 Redis "JWKS" 해시에 등록 (kid → 만료 시각 + JWK)
+ *   → 다른 서버, 엣지 노드는 /.well-known/jwks.json으로 받아서 로컬 검증
+ * - 주기적으로 새 키 쌍으로 교체 (jwt.signing.rotation-interval)
+ *   이전 공개키는 그 키로 서명된 토큰이 모두 만료될 때까지 키링에 남음
+ *   → 교체해도 아무도 로그아웃되지 않음
+ *
+ * 기존 HS256 토큰 (kid 없음):
+ * - 비대칭 모드에서도 계속 받아 주면 jwt.secret을 아는 누구나 토큰을 만들 수 있음
+ *   → 비대칭으로 바꾼 의미가 없음
+ * - jwt.signing.accept-legacy-hs256-until 시각까지만 받아 주고, 그 이후(또는 설정이 없으면) 거부
+ *   → 전환 직전에 발급된 토큰이 만료될 때까지만 (Refresh Token 유효 시간 이상) 설정
+ *
+ * 다음 키 미리 공개 (pre-publication):
+ * - JWKS 응답은 검증하는 쪽, CDN에 JWKS_CACHE_MAX_AGE 동안 캐시됨
+ * - 새 키를 등록하자마자 서명에 쓰면 캐시된 JWKS에 그 kid가 없어 새 토큰이 모두 거부됨
+ * - 그래서 "다음 키"를 한 교체 주기 먼저 등록해 두고, 교체 시점에는 이미 공개된 키로 바꿈
+ *   (교체 주기는 JWKS_CACHE_MAX_AGE보다 길어야 함, 시작 시 확인)
+ * - 서버 시작 시 첫 서명 키만은 바로 사용 (이전에 공개할 방법이 없음)
+ */
+@Slf4j
+@Component
+public class JwtKeyHolder {
+
+    // Redis 해시: kid → "{만료 시각}|{공개키 JWK JSON}"
+    private static final String JWKS_KEY = "JWKS";
+    private static final char VALUE_SEPARATOR = '|';
+
+    /**
+     * JWKS 응답 캐시 시간 (JwksController)
+     *
+     * 다음 키는 최소 이 시간 전에 등록되어 있어야 서명에 사용합니다.
+     */
+    public static final Duration JWKS_CACHE_MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtProperties jwtProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 현재 서명 키
+    private final AtomicReference<JwtSigningKey> current = new AtomicReference<>();
+    // 공개만 해 두고 아직 서명에 쓰지 않는 다음 키 (비대칭 모드)
+    private volatile PendingKey next;
+    // HS256 비밀키 (kid 없는 토큰 검증용)
+    private volatile SecretKey hmacKey;
+    // kid → 검증용 공개키 (이 서버 + 다른 서버)
+    private final Map<String, KeyringEntry> keyring = new ConcurrentHashMap<>();
+    // Redis에도 없던 kid (위조 토큰으로 Redis를 반복 조회하지 않도록 잠시 기억)
+    private final Cache<String, Boolean> unknownKeyIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    // 모든 토큰 검증에 쓰는 공유 파서 (키 교체와 무관하게 1개)
+    private final JwtParser parser;
+
+    public JwtKeyHolder(
+            JwtProperties jwtProperties,
+            VerifiedTokenCache verifiedTokenCache,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper) {
+        this.jwtProperties = jwtProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.parser = Jwts.parser()
+                .keyLocator(new KeyringLocator())
+                .build();
+    }
+
+    /**
+     * 시작 시 서명 키 초기화
+     *
+     * - HS256: application.yml의 jwt.secret
+     * - ES256 / ED25519: 새 키 쌍 생성 + 공개키 등록
+     */
+    @PostConstruct
+    void init() {
+        hmacKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+
+        if (isAsymmetric()) {
+            Duration rotationInterval = jwtProperties.getSigning().getRotationInterval();
+            if (rotationInterval.compareTo(JWKS_CACHE_MAX_AGE) <= 0) {
+                throw new IllegalStateException("jwt.signing.rotation-interval은 JWKS 캐시 시간("
+                        + JWKS_CACHE_MAX_AGE + ")보다 길어야 합니다: " + rotationInterval);
+            }
+
+            // 첫 키는 바로 사용, 다음 키는 공개만
+            PendingKey first = prepareKey();
+            current.set(asymmetricSigningKey(first.kid(), first.keyPair()));
+            next = prepareKey();
+            log.info("JWT 서명 키 초기화 완료: algorithm={}, kid={}, nextKid={}",
+                    jwtProperties.getSigning().getAlgorithm(), first.kid(), next.kid());
+
+            Instant legacyUntil = jwtProperties.getSigning().getAcceptLegacyHs256Until();
+            if (legacyUntil != null && legacyUntil.isAfter(Instant.now())) {
+                log.warn("kid 없는 HS256 토큰을 {}까지 받아 줍니다 (jwt.signing.accept-legacy-hs256-until)", legacyUntil);
+            }
+        } else {
+            current.set(hmacSigningKey(hmacKey));
+            log.info("JWT 서명 키 초기화 완료 (HS256)");
+        }
+    }
+
+    /**
+     * 현재 서명 키
+     */
+    public JwtSigningKey getSigningKey() {
+        return current.get();
+    }
+
+    /**
+     * 키링으로 검증하는 공유 파서
+     */
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    /**
+     * HS256 비밀키 교체
+     *
+     * 교체 이후 kid 없는 토큰은 모두 새 키로 검증합니다.
+     * (이전 비밀키로 서명된 토큰은 더 이상 검증되지 않음)
+     *
+     * @param newSecret 새 비밀키 (HS256: 최소 256bit)
+     */
+    public void rotate(String newSecret) {
+        SecretKey newKey = Keys.hmacShaKeyFor(newSecret.getBytes(StandardCharsets.UTF_8));
+        hmacKey = newKey;
+        if (!isAsymmetric()) {
+            current.set(hmacSigningKey(newKey));
+        }
+        // 이전 키로 검증해 둔 캐시 결과는 더 이상 믿을 수 없음
+        verifiedTokenCache.invalidateAll();
+        log.info("JWT 서명 키 교체 완료 (HS256)");
+    }
+
+    /**
+     * 비대칭 키 쌍 주기 교체
+     *
+     * 1. 한 주기 전에 공개해 둔 다음 키로 서명 키를 바꿔치기
+     *    (공개한 지 JWKS_CACHE_MAX_AGE가 지나지 않았으면 이번 교체는 건너뜀)
+     * 2. 새 다음 키 생성 + 공개키를 Redis에 등록
+     * 3. 만료된 공개키 정리
+     *
+     * 이전 공개키는 남아 있으므로 이미 발급된 토큰은 계속 유효합니다.
+     * (HS256 모드에서는 아무것도 하지 않음)
+     */
+    @Scheduled(
+            initialDelayString = "#{@jwtProperties.signing.rotationInterval.toMillis()}",
+            fixedDelayString = "#{@jwtProperties.signing.rotationInterval.toMillis()}")
+    public void rotateKeyPair() {
+        if (!isAsymmetric()) {
+            return;
+        }
+
+        PendingKey activating = next;
+        long publishedFor = System.currentTimeMillis() - activating.publishedAt();
+        if (publishedFor < JWKS_CACHE_MAX_AGE.toMillis()) {
+            log.warn("다음 서명 키가 공개된 지 {}ms밖에 되지 않아 교체를 미룹니다: kid={}",
+                    publishedFor, activating.kid());
+            return;
+        }
+
+        current.set(asymmetricSigningKey(activating.kid(), activating.keyPair()));
+        next = prepareKey();
+
+        purgeExpired();
+        log.info("JWT 서명 키 교체 완료: algorithm={}, kid={}, nextKid={}",
+                jwtProperties.getSigning().getAlgorithm(), activating.kid(), next.kid());
+    }
+
+    /**
+     * 새 키 쌍 생성 + 공개키 등록 (Redis, 로컬 키링)
+     *
+     * 보관 기간: 공개 후 서명에 쓰이기까지 최대 1주기 + 서명에 쓰이는 1주기 + Refresh Token 유효 시간
+     * (이 키로 서명된 토큰이 모두 만료될 때까지)
+     */
+    private PendingKey prepareKey() {
+        KeyPair keyPair = generateKeyPair(jwtProperties.getSigning().getAlgorithm());
+        PublicJwk<?> jwk = toJwk(keyPair.getPublic());
+        String kid = jwk.getId();
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now
+                + 2 * jwtProperties.getSigning().getRotationInterval().toMillis()
+                + jwtProperties.getRefreshTokenValidity();
+
+        publish(kid, jwk, expiresAt);
+        keyring.put(kid, new KeyringEntry(keyPair.getPublic(), expiresAt));
+        return new PendingKey(kid, keyPair, now);
+    }
+
+    /**
+     * 현재 유효한 공개키 목록 (JWKS 엔드포인트용)
+     *
+     * 모든 서버의 공개키를 Redis에서 읽어 만료되지 않은 것만 돌려줍니다.
+     *
+     * @return {"keys": [JWK, ...]}
+     */
+    public Map<String, Object> getJwks() {
+        long now = System.currentTimeMillis();
+        List<Object> keys = new ArrayList<>();
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(JWKS_KEY);
+        entries.forEach((kid, value) -> {
+            String stored = value.toString();
+            int separator = stored.indexOf(VALUE_SEPARATOR);
+            long expiresAt = Long.parseLong(stored.substring(0, separator));
+            if (expiresAt > now) {
+                keys.add(parseJwk(stored.substring(separator + 1)));
+            }
+        });
+
+        return Map.of("keys", keys);
+    }
+
+    /**
+     * 현재 설정이 비대칭 알고리즘인지
+     */
+    private boolean isAsymmetric() {
+        return jwtProperties.getSigning().getAlgorithm() != JwtSigningAlgorithm.HS256;
+    }
+
+    /**
+     * kid 없는 HS256 토큰을 받아 주는지
+     *
+     * - HS256 모드: 항상 (모든 토큰이 kid 없음)
+     * - 비대칭 모드: jwt.signing.accept-legacy-hs256-until 이전까지만 (전환 기간)
+     */
+    private boolean acceptsLegacyHs256() {
+        if (!isAsymmetric()) {
+            return true;
+        }
+        Instant until = jwtProperties.getSigning().getAcceptLegacyHs256Until();
+        return until != null && Instant.now().isBefore(until);
+    }
+
+    /**
+     * HS256 서명 키 (kid 헤더 없음 → 기존 토큰과 같은 형태)
+     */
+    private JwtSigningKey hmacSigningKey(SecretKey key) {
+        return new JwtSigningKey(null, builder -> builder.signWith(key, Jwts.SIG.HS256));
+    }
+
+    /**
+     * 비대칭 서명 키 (kid 헤더 포함)
+     */
+    private JwtSigningKey asymmetricSigningKey(String kid, KeyPair keyPair) {
+        SignatureAlgorithm algorithm = jwtProperties.getSigning().getAlgorithm() == JwtSigningAlgorithm.ES256
+                ? Jwts.SIG.ES256
+                : Jwts.SIG.EdDSA;
+        return new JwtSigningKey(kid, builder -> builder
+                .header().keyId(kid).and()
+                .signWith(keyPair.getPrivate(), algorithm));
+    }
+
+    /**
+     * 키 쌍 생성
+     */
+    private KeyPair generateKeyPair(JwtSigningAlgorithm algorithm) {
+        if (algorithm == JwtSigningAlgorithm.ES256) {
+            return Jwts.SIG.ES256.keyPair().build();
+        }
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Ed25519 키 생성을 지원하지 않는 JVM입니다", e);
+        }
+    }
+
+    /**
+     * 공개키 → JWK (kid = RFC 7638 thumbprint)
+     */
+    private PublicJwk<?> toJwk(PublicKey publicKey) {
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            return Jwks.builder().key(ecPublicKey).idFromThumbprint().build();
+        }
+        return Jwks.builder().octetKey(publicKey).idFromThumbprint().build();
+    }
+
+    /**
+     * Redis "JWKS" 해시에 공개키 등록
+     */
+    private void publish(String kid, PublicJwk<?> jwk, long expiresAt) {
+        try {
+            String json = objectMapper.writeValueAsString(jwk);
+            redisTemplate.opsForHash().put(JWKS_KEY, kid, expiresAt + String.valueOf(VALUE_SEPARATOR) + json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWK 직렬화 실패: kid=" + kid, e);
+        }
+    }
+
+    /**
+     * JWK JSON → Map (엔드포인트 응답용)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parseJwk(String json) {
+        try {
+            return objectMapper.readValue(json, Map.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWK 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * Redis에서 다른 서버의 공개키 조회
+     *
+     * @return 키링 엔트리 (없거나 만료되었으면 null)
+     */
+    private KeyringEntry loadFromRedis(String kid) {
+        Object value = redisTemplate.opsForHash().get(JWKS_KEY, kid);
+        if (value == null) {
+            return null;
+        }
+
+        String stored = value.toString();
+        int separator = stored.indexOf(VALUE_SEPARATOR);
+        long expiresAt = Long.parseLong(stored.substring(0, separator));
+        if (expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        Jwk<?> jwk = Jwks.parser().build().parse(stored.substring(separator + 1));
+        if (!(jwk instanceof PublicJwk<?> publicJwk)) {
+            log.warn("공개키가 아닌 JWK가 등록되어 있습니다: kid={}", kid);
+            return null;
+        }
+        return new KeyringEntry(publicJwk.toKey(), expiresAt);
+    }
+
+    /**
+     * 만료된 공개키 정리 (로컬 키링 + Redis)
+     */
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        keyring.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(JWKS_KEY);
+        entries.forEach((kid, value) -> {
+            String stored = value.toString();
+            long expiresAt = Long.parseLong(stored.substring(0, stored.indexOf(VALUE_SEPARATOR)));
+            if (expiresAt <= now) {
+                redisTemplate.opsForHash().delete(JWKS_KEY, kid);
+            }
+        });
+    }
+
+    /**
+     * 공개된 키 쌍 (kid, 개인키 포함, 공개 시각)
+     */
+    private record PendingKey(String kid, KeyPair keyPair, long publishedAt) {
+    }
+
+    /**
+     * 키링의 공개키 + 보관 만료 시각
+     */
+    private record KeyringEntry(PublicKey publicKey, long expiresAt) {
+    }
+
+    /**
+     * 토큰 헤더로 검증 키 찾기
+     *
+     * 알고리즘과 키 종류가 맞지 않으면 (예: kid 없는 ES256, 공개키로 HS256)
+     * 파서가 검증을 거부하므로 알고리즘 혼동 공격이 통하지 않습니다.
+     */
+    private class KeyringLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                if (!acceptsLegacyHs256()) {
+                    throw new InvalidKeyException("kid 없는 HS256 토큰은 더 이상 받지 않습니다");
+                }
+                return hmacKey;
+            }
+
+            KeyringEntry entry = keyring.get(kid);
+            if (entry == null && unknownKeyIds.getIfPresent(kid) == null) {
+                // 다른 서버가 발급한 토큰 → Redis에서 공개키 조회 후 키링에 보관
+                entry = loadFromRedis(kid);
+                if (entry != null) {
+                    keyring.put(kid, entry);
+                } else {
+                    unknownKeyIds.put(kid, Boolean.TRUE);
+                }
+            }
+
+            if (entry == null) {
+                throw new InvalidKeyException("알 수 없는 서명 키입니다: kid=" + kid);
+            }
+            return entry.publicKey();
+        }
+    }
+}
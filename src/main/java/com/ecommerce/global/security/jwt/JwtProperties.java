@@ -1,5 +1,8 @@
 package com.ecommerce.global.security.jwt;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -20,5 +23,38 @@ public class JwtProperties {
     private String secret;              //비밀키
     private Long accessTokenValidity;   // Access Token 유효 시간 (ms)
     private Long refreshTokenValidity;  // Refresh Token 유효 시간 (ms)
+
+    private TokenCache verifiedTokenCache = new TokenCache(); // 검증된 토큰 캐시 설정
+    private RefreshTokenStoreProperties refreshTokenStore = new RefreshTokenStoreProperties(); // Refresh Token 저장 설정
+    private Signing signing = new Signing(); // 서명 알고리즘, 키 교체 설정
+
+    /*
+     * jwt.verified-token-cache.* 설정
+     */
+    @Getter
+    @Setter
+    public static class TokenCache {
+        private long maximumSize = 10_000; // 최대 엔트리 수
+    }
+
+    /*
+     * jwt.refresh-token-store.* 설정
+     */
+    @Getter
+    @Setter
+    public static class RefreshTokenStoreProperties {
+        private RefreshTokenWriteMode writeMode = RefreshTokenWriteMode.WAIT_FOR_ACK; // 저장 모드
+    }
+
+    /*
+     * jwt.signing.* 설정
+     */
+    @Getter
+    @Setter
+    public static class Signing {
+        private JwtSigningAlgorithm algorithm = JwtSigningAlgorithm.HS256; // 서명 알고리즘
+        private Duration rotationInterval = Duration.ofDays(1); // 키 쌍 교체 주기 (비대칭 알고리즘만)
+        private Instant acceptLegacyHs256Until; // 비대칭 모드에서 kid 없는 HS256 토큰을 받아 주는 마지막 시각 (없으면 거부)
+    }
     
 }
@@ -0,0 +1,19 @@
+package com.ecommerce.global.security.jwt;
+
+/**
+ * JWT 서명 알고리즘
+ *
+ * HS256 (대칭키):
+ * - 서명/검증에 같은 비밀키 사용 → 검증하는 모든 서비스가 비밀키를 알아야 함
+ * - 키를 바꾸면 기존 토큰이 전부 무효 (전체 로그아웃)
+ *
+ * ES256, ED25519 (비대칭키):
+ * - 개인키로 서명, 공개키로 검증 → 다른 서비스는 JWKS(공개키 목록)만 받으면 됨
+ * - 토큰 헤더의 kid로 검증 키를 찾으므로 여러 키를 동시에 유효하게 유지 가능
+ * → 키를 주기적으로 교체해도 기존 토큰은 만료까지 유효
+ */
+public enum JwtSigningAlgorithm {
+    HS256, // HMAC-SHA256 (기존 방식, 기본값)
+    ES256, // ECDSA P-256 + SHA-256
+    ED25519 // EdDSA Ed25519
+}
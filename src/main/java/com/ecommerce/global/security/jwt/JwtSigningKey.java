@@ -0,0 +1,27 @@
+package com.ecommerce.global.security.jwt;
+
+import java.util.function.UnaryOperator;
+
+import io.jsonwebtoken.JwtBuilder;
+
+/**
+ * 현재 서명 키 스냅샷
+ *
+ * 토큰 1쌍(Access + Refresh)을 만드는 동안 같은 키로 서명하도록
+ * JwtKeyHolder.getSigningKey()로 한 번 꺼내서 사용합니다.
+ *
+ * @param keyId  키 ID (JWS 헤더 kid, HS256은 null)
+ * @param signer 빌더에 kid 헤더 + 서명 키를 적용하는 함수
+ */
+public record JwtSigningKey(String keyId, UnaryOperator<JwtBuilder> signer) {
+
+    /**
+     * 빌더에 서명 적용
+     *
+     * @param builder 클레임이 채워진 JwtBuilder
+     * @return 서명이 적용된 JwtBuilder (compact() 호출 가능)
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        return signer.apply(builder);
+    }
+}
@@ -1,15 +1,14 @@
 package com.ecommerce.global.security.jwt;
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -17,13 +16,15 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,18 +43,15 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtTokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String VERSION_KEY = "ver"; // 사용자별 토큰 버전
     private static final String BEARER_TYPE = "Bearer";
 
     private final JwtProperties jwtProperties;
-    private final RedisTemplate<String, String> redisTemplate;
-
-    /**
-     * SecretKey 생성 (HS256)
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
+    private final JwtKeyHolder jwtKeyHolder;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenVersionStore tokenVersionStore;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * JWT 토큰 생성 (Access + Refresh)
@@ -68,28 +66,33 @@ public class JwtTokenProvider {
                 .collect(Collectors.joining(","));
 
         long now = System.currentTimeMillis();
+        // Access/Refresh 모두 같은 키로 서명 (중간에 키가 교체되어도 일관성 유지)
+        JwtSigningKey signingKey = jwtKeyHolder.getSigningKey();
+        // 현재 토큰 버전 (이보다 낮은 버전의 토큰은 거부됨)
+        long version = tokenVersionStore.currentVersion(authentication.getName());
 
         // Access Token 생성
         Date accessTokenExpiresIn = new Date(now + jwtProperties.getAccessTokenValidity());
-        String accessToken = Jwts.builder().subject(authentication.getName())// 사용자 ID
+        String accessToken = signingKey.sign(Jwts.builder().subject(authentication.getName())// 사용자 ID
+                .id(newTokenId()) // 토큰 ID (블랙리스트 키)
                 .claim(AUTHORITIES_KEY, authorities) // 권한
-                .expiration(accessTokenExpiresIn)
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .claim(VERSION_KEY, version) // 토큰 버전
+                .expiration(accessTokenExpiresIn)) // 서명 (비대칭 키면 kid 헤더 포함)
                 .compact();
 
         // Refresh Token 생성
-        String refreshToken = Jwts.builder()
+        String refreshToken = signingKey.sign(Jwts.builder()
                 .subject(authentication.getName())
-                .expiration(new Date(now + jwtProperties.getRefreshTokenValidity()))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .id(newTokenId())
+                .claim(VERSION_KEY, version)
+                .expiration(new Date(now + jwtProperties.getRefreshTokenValidity())))
                 .compact();
 
         // Refresh Token을 Redis에 저장
-        redisTemplate.opsForValue().set(
-                "RT:" + authentication.getName(), // Key: "RT:userId"
+        refreshTokenStore.save(
+                authentication.getName(), // Key: "RT:userId"
                 refreshToken,
-                jwtProperties.getRefreshTokenValidity(),
-                TimeUnit.MILLISECONDS);
+                jwtProperties.getRefreshTokenValidity());
         log.info("JWT 토큰 생성 완료: userId={}", authentication.getName());
 
         return JwtTokenDto.builder()
@@ -116,10 +119,7 @@ public class JwtTokenProvider {
         }
 
         // 권한 정보 추출
-        Collection<? extends GrantedAuthority> authorities = Arrays
-                .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        List<GrantedAuthority> authorities = toAuthorities(claims.get(AUTHORITIES_KEY));
 
         // UserDetails 생성
         UserDetails principal = new User(claims.getSubject(), "", authorities);
@@ -134,31 +134,138 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateToken(String token) {
-        try {
-            // 블랙리스트 체크 (로그아웃된 토큰)
-            if (isTokenBlacklisted(token)) {
-                log.warn("블랙리스트에 등록된 토큰입니다");
-                return false;
+        return verify(token, false).isValid();
+    }
+
+    /**
+     * Access Token 검증 + 인증 정보 생성 (1회 파싱)
+     * 
+     * validateToken() + getAuthentication()을 각각 호출하면
+     * Base64 디코딩, JSON 파싱, 서명 검증이 2번씩 일어납니다.
+     * 이 메서드는 한 번의 파싱으로 검증과 인증 객체 생성을 모두 처리합니다.
+     * 
+     * 한 번 검증된 토큰은 VerifiedTokenCache에 보관되어
+     * 만료 전까지는 서명 검증 없이 바로 결과를 돌려줍니다. (블랙리스트 체크는 매번 수행)
+     * 
+     * @param accessToken Access Token
+     * @return 검증 결과 (성공 시 Authentication 포함, 실패 시 실패 사유)
+     */
+    public JwtVerificationResult verifyAccessToken(String accessToken) {
+        return verify(accessToken, true);
+    }
+
+    /**
+     * 토큰 검증 (공통)
+     * 
+     * @param token              JWT 토큰
+     * @param requireAuthorities 권한 정보 필수 여부 (Access Token: true, Refresh Token: false)
+     * @return 검증 결과
+     */
+    private JwtVerificationResult verify(String token, boolean requireAuthorities) {
+        if (!StringUtils.hasText(token)) {
+            return JwtVerificationResult.failure(JwtFailureReason.EMPTY);
+        }
+
+        // Access Token은 검증 결과 캐시 사용
+        JwtVerificationResult result;
+        if (requireAuthorities) {
+            result = verifiedTokenCache.get(token);
+            if (result == null) {
+                result = parseAndVerify(token, true);
+                verifiedTokenCache.put(token, result);
             }
+        } else {
+            result = parseAndVerify(token, false);
+        }
 
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+        // 블랙리스트 체크 (로그아웃된 토큰) - 캐시 hit여도 매번 수행
+        if (result.isValid() && isTokenBlacklisted(result.getTokenId())) {
+            log.warn("블랙리스트에 등록된 토큰입니다");
+            return JwtVerificationResult.failure(JwtFailureReason.BLACKLISTED);
+        }
+
+        // 토큰 버전 체크 ("모든 기기에서 로그아웃" 이전에 발급된 토큰) - 로컬 캐시 조회
+        if (result.isValid()
+                && result.getTokenVersion() < tokenVersionStore.currentVersion(result.getSubject())) {
+            log.warn("이전 버전의 토큰입니다: userId={}", result.getSubject());
+            return JwtVerificationResult.failure(JwtFailureReason.REVOKED_VERSION);
+        }
 
-            return true;
+        return result;
+    }
 
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다", e);
+    /**
+     * 토큰 파싱 + 서명 검증 + 결과 생성
+     * 
+     * @param token              JWT 토큰
+     * @param requireAuthorities 권한 정보 필수 여부
+     * @return 검증 결과
+     */
+    private JwtVerificationResult parseAndVerify(String token, boolean requireAuthorities) {
+        Claims claims;
+        try {
+            claims = jwtKeyHolder.getParser()
+                    .parseSignedClaims(token)
+                    .getPayload();
         } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다", e);
+            log.warn("만료된 JWT 토큰입니다: {}", e.getMessage());
+            return JwtVerificationResult.failure(JwtFailureReason.EXPIRED);
+        } catch (SecurityException e) {
+            log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
+            return JwtVerificationResult.failure(JwtFailureReason.INVALID_SIGNATURE);
+        } catch (MalformedJwtException e) {
+            log.warn("잘못된 형식의 JWT 토큰입니다: {}", e.getMessage());
+            return JwtVerificationResult.failure(JwtFailureReason.MALFORMED);
         } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다", e);
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다", e);
+            log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+            return JwtVerificationResult.failure(JwtFailureReason.UNSUPPORTED);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+            return JwtVerificationResult.failure(JwtFailureReason.INVALID);
+        }
+
+        Object authoritiesClaim = claims.get(AUTHORITIES_KEY);
+        if (authoritiesClaim == null && requireAuthorities) {
+            log.warn("권한 정보가 없는 토큰입니다");
+            return JwtVerificationResult.failure(JwtFailureReason.MISSING_AUTHORITIES);
         }
 
-        return false;
+        // 버전 클레임이 없는 토큰(도입 전 발급)은 0으로 취급
+        Object versionClaim = claims.get(VERSION_KEY);
+        long version = versionClaim instanceof Number number ? number.longValue() : 0L;
+
+        return JwtVerificationResult.success(
+                TokenBlacklist.tokenIdOf(claims, token),
+                claims.getSubject(),
+                version,
+                toAuthorities(authoritiesClaim),
+                claims.getExpiration().toInstant());
+    }
+
+    /**
+     * 새 토큰 ID (jti) 생성
+     * 
+     * 128bit 난수 → Base64 URL (22자)
+     * - 블랙리스트 Redis 키를 JWT 원문(수백 byte) 대신 이 값으로 저장
+     */
+    private String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * "ROLE_USER,ROLE_ADMIN" 형태의 권한 클레임을 GrantedAuthority 목록으로 변환
+     */
+    private List<GrantedAuthority> toAuthorities(Object authoritiesClaim) {
+        if (authoritiesClaim == null) {
+            return List.of();
+        }
+        return Arrays.stream(authoritiesClaim.toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
@@ -166,9 +273,7 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            return jwtKeyHolder.getParser()
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
@@ -183,17 +288,15 @@ public class JwtTokenProvider {
      * @return 새로운 Access Token
      */
     public String refreshAccessToken(String refreshToken) {
-        // Refresh Token 검증
-        if (!validateToken(refreshToken)) {
+        // Refresh Token 검증 (1회 파싱으로 사용자 정보까지 추출)
+        JwtVerificationResult result = verify(refreshToken, false);
+        if (!result.isValid()) {
             throw new RuntimeException("유효하지 않은 Refresh Token입니다.");
         }
-
-        // Refresh Token에서 사용자 정보 추출
-        Claims claims = parseClaims(refreshToken);
-        String userId = claims.getSubject();
+        String userId = result.getSubject();
 
         // Redis에 저장된 Refresh Token과 비교
-        String savedRefreshToken = redisTemplate.opsForValue().get("RT:" + userId);
+        String savedRefreshToken = refreshTokenStore.find(userId);
         if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
             throw new RuntimeException("Refresh Token이 일치하지 않습니다.");
         }
@@ -202,17 +305,30 @@ public class JwtTokenProvider {
         long now = System.currentTimeMillis();
         Date accessTokenExpiresIn = new Date(now + jwtProperties.getAccessTokenValidity());
 
-        String newAccessToken = Jwts.builder()
+        String newAccessToken = jwtKeyHolder.getSigningKey().sign(Jwts.builder()
                 .subject(userId)
-                .claim(AUTHORITIES_KEY, claims.get(AUTHORITIES_KEY))
-                .expiration(accessTokenExpiresIn)
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .id(newTokenId())
+                .claim(AUTHORITIES_KEY, joinAuthorities(result.getAuthorities()))
+                .claim(VERSION_KEY, result.getTokenVersion())
+                .expiration(accessTokenExpiresIn))
                 .compact();
         log.info("Access Token 재발급 완료: userId={}", userId);
 
         return newAccessToken;
     }
 
+    /**
+     * 권한 목록을 "ROLE_USER,ROLE_ADMIN" 형태의 클레임 값으로 변환 (없으면 null → 클레임 생략)
+     */
+    private String joinAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities.isEmpty()) {
+            return null;
+        }
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+    }
+
     /**
      * 로그아웃 (토큰 무효화)
      * 
@@ -224,16 +340,15 @@ public class JwtTokenProvider {
         String userId = claims.getSubject();
 
         // Redis에서 Refresh Token 삭제
-        redisTemplate.delete("RT:" + userId);
+        refreshTokenStore.delete(userId);
+
+        // 로컬 검증 캐시에서 제거
+        verifiedTokenCache.evict(accessToken);
 
         // Access Token을 블랙리스트에 추가 (남은 유효 시간 동안)
         long expiration = claims.getExpiration().getTime() - System.currentTimeMillis();
         if (expiration > 0) {
-            redisTemplate.opsForValue().set(
-                    "BL:" + accessToken, // Key: "BL:token"
-                    "logout",
-                    expiration,
-                    TimeUnit.MILLISECONDS);
+            tokenBlacklist.add(TokenBlacklist.tokenIdOf(claims, accessToken), expiration);
         }
 
         log.info("로그아웃 완료: userId={}", userId);
@@ -241,9 +356,13 @@ public class JwtTokenProvider {
 
     /**
      * 토큰이 블랙리스트에 있는지 확인
+     * 
+     * 평소에는 로컬 복제본만 조회 (Redis 왕복 없음)
+     * 
+     * @param tokenId 토큰 식별자 (jti 또는 레거시 토큰 원문)
      */
-    private boolean isTokenBlacklisted(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey("BL:" + token));
+    private boolean isTokenBlacklisted(String tokenId) {
+        return tokenBlacklist.contains(tokenId);
     }
 
     /**
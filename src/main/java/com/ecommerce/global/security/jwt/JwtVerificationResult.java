@@ -0,0 +1,70 @@
+package com.ecommerce.global.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JWT 검증 결과 (불변)
+ *
+ * 토큰을 1번만 파싱해서 필요한 정보를 모두 담아 반환합니다.
+ * - 성공: 토큰 ID, 사용자 ID(subject), 권한, 만료 시각, 인증 객체
+ * - 실패: 실패 사유 (JwtFailureReason)
+ *
+ * 사용 예시:
+ * JwtVerificationResult result = jwtTokenProvider.verifyAccessToken(jwt);
+ * if (result.isValid()) {
+ *     SecurityContextHolder.getContext().setAuthentication(result.getAuthentication());
+ * }
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtVerificationResult {
+
+    private final boolean valid;
+    private final String tokenId; // 블랙리스트 키 (jti, 없으면 토큰 원문)
+    private final String subject; // 사용자 ID (publicId)
+    private final long tokenVersion; // 사용자별 토큰 버전 (없으면 0)
+    private final List<GrantedAuthority> authorities; // 변경 불가 리스트
+    private final Instant expiresAt; // 만료 시각
+    private final Authentication authentication; // 권한이 있는 토큰만 생성
+    private final JwtFailureReason failureReason;
+
+    /**
+     * 검증 성공 결과
+     *
+     * @param tokenId     토큰 ID (jti)
+     * @param subject     사용자 ID
+     * @param version     토큰 버전
+     * @param authorities 권한 목록 (없으면 빈 리스트)
+     * @param expiresAt   만료 시각
+     */
+    static JwtVerificationResult success(String tokenId, String subject, long version,
+            List<GrantedAuthority> authorities, Instant expiresAt) {
+        List<GrantedAuthority> copied = List.copyOf(authorities);
+        Authentication authentication = null;
+        if (!copied.isEmpty()) {
+            UserDetails principal = new User(subject, "", copied);
+            authentication = new UsernamePasswordAuthenticationToken(principal, "", copied);
+        }
+        return new JwtVerificationResult(true, tokenId, subject, version, copied, expiresAt, authentication, null);
+    }
+
+    /**
+     * 검증 실패 결과
+     *
+     * @param reason 실패 사유
+     */
+    static JwtVerificationResult failure(JwtFailureReason reason) {
+        return new JwtVerificationResult(false, null, null, 0L, List.of(), null, null, reason);
+    }
+}
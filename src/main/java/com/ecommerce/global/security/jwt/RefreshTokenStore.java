@@ -0,0 +1,149 @@
+package com.ecommerce.global.security.jwt;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refresh Token 저장소 (Redis "RT:{userId}")
+ *
+ * 저장 모드 (jwt.refresh-token-store.write-mode):
+ * - WAIT_FOR_ACK (기본): Redis 응답(ack)을 받은 뒤 반환 → 반환 즉시 재발급 가능
+ * - FIRE_AND_CONFIRM: Lettuce 비동기(reactive) API로 쓰기만 요청하고 바로 반환
+ *   → 로그인 폭주(배포 직후, 타임세일) 시 요청 스레드가 Redis 왕복을 기다리지 않음
+ *   → 결과는 콜백에서 확인 (실패는 에러 로그 + 지표)
+ *
+ * FIRE_AND_CONFIRM 주의:
+ * - 쓰기가 끝나기 전에 재발급을 요청하면 "Refresh Token이 일치하지 않습니다"가 날 수 있음
+ * - 실패 시 사용자는 재로그인해야 함
+ * - 재시도하지 않음: 타임아웃은 Redis가 SET을 못 받았다는 뜻이 아님
+ *   재시도한 SET이 더 최근 로그인의 토큰을 덮어쓰거나, 로그아웃/폐기로 지운 토큰을 되살릴 수 있음
+ *
+ * 모니터링:
+ * - /actuator/metrics/jwt.refresh_token.writes (outcome=success|failure)
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "RT:";
+    // 비동기 쓰기 응답 대기 시간 (넘으면 실패로 기록, 재시도하지 않음)
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(3);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+    private final RefreshTokenWriteMode writeMode;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+
+    public RefreshTokenStore(
+            RedisTemplate<String, String> redisTemplate,
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.writeMode = jwtProperties.getRefreshTokenStore().getWriteMode();
+        this.successCounter = Counter.builder("jwt.refresh_token.writes")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("jwt.refresh_token.writes")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+
+        log.info("Refresh Token 저장 모드: {}", writeMode);
+    }
+
+    /**
+     * Refresh Token 저장
+     *
+     * @param userId       사용자 ID
+     * @param refreshToken Refresh Token
+     * @param ttlMillis    유효 시간 (ms)
+     */
+    public void save(String userId, String refreshToken, long ttlMillis) {
+        if (writeMode == RefreshTokenWriteMode.FIRE_AND_CONFIRM) {
+            saveAsync(userId, refreshToken, ttlMillis);
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(
+                    KEY_PREFIX + userId, // Key: "RT:userId"
+                    refreshToken,
+                    ttlMillis,
+                    TimeUnit.MILLISECONDS);
+            successCounter.increment();
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 저장 (요청 스레드는 기다리지 않음)
+     *
+     * 결과는 Lettuce 이벤트 루프에서 확인합니다.
+     */
+    private void saveAsync(String userId, String refreshToken, long ttlMillis) {
+        reactiveRedisTemplate.opsForValue()
+                .set(KEY_PREFIX + userId, refreshToken, Duration.ofMillis(ttlMillis))
+                .timeout(WRITE_TIMEOUT)
+                .subscribe(
+                        saved -> {
+                            if (Boolean.TRUE.equals(saved)) {
+                                successCounter.increment();
+                            } else {
+                                failureCounter.increment();
+                                log.error("Refresh Token 비동기 저장 실패 (응답 false): userId={}", userId);
+                            }
+                        },
+                        error -> {
+                            failureCounter.increment();
+                            log.error("Refresh Token 비동기 저장 실패: userId={}", userId, error);
+                        });
+    }
+
+    /**
+     * 저장된 Refresh Token 조회
+     *
+     * @param userId 사용자 ID
+     * @return Refresh Token (없으면 null)
+     */
+    public String find(String userId) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+    }
+
+    /**
+     * Refresh Token 삭제
+     *
+     * @param userId 사용자 ID
+     */
+    public void delete(String userId) {
+        redisTemplate.delete(KEY_PREFIX + userId);
+    }
+
+    /**
+     * Refresh Token 일괄 삭제 (DEL 명령 1번에 여러 키)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 실제로 삭제된 키 수
+     */
+    public long deleteAll(Collection<String> userIds) {
+        List<String> keys = userIds.stream()
+                .map(userId -> KEY_PREFIX + userId)
+                .toList();
+        Long deleted = redisTemplate.delete(keys);
+        return deleted != null ? deleted : 0L;
+    }
+}
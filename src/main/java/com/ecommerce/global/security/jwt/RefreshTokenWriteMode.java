@@ -0,0 +1,11 @@
+package com.ecommerce.global.security.jwt;
+
+/**
+ * Refresh Token 저장 모드
+ *
+ * @see RefreshTokenStore
+ */
+public enum RefreshTokenWriteMode {
+    WAIT_FOR_ACK, // Redis 응답을 기다림 (기본)
+    FIRE_AND_CONFIRM // 비동기 요청 후 콜백에서 결과 확인
+}
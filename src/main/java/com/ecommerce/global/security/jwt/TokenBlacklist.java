@@ -0,0 +1,316 @@
+package com.ecommerce.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 블랙리스트 (Redis + 로컬 복제본)
+ *
+ * 왜 필요한가?
+ * - 예전에는 인증 요청마다 Redis hasKey("BL:...") 왕복이 발생
+ * - 실제로 블랙리스트에 오르는 토큰은 거의 없음
+ * → 대부분의 요청은 네트워크 호출 없이 "아니오"를 답할 수 있어야 함
+ *
+ * 동작 방식:
+ * 1. 원본: Redis "BL:{tokenId}" 키 (TTL = 토큰 남은 유효 시간)
+ * 2. 로컬 복제본: 폐기된 tokenId → 만료 시각 (정확한 Set, 오탐 없음)
+ * 3. 로그아웃 시 Redis에 저장 + "jwt:blacklist" 채널로 발행
+ * → 모든 서버가 구독해서 로컬 복제본에 반영
+ *
+ * 동기화가 끊기면?
+ * - (재)구독될 때마다 폴백 → 연결이 잠깐 끊긴 사이 발행된 메시지는 다시 오지 않으므로
+ *   (리스너 컨테이너는 1초 만에 재구독하므로 아래 PING 확인만으로는 유실을 못 잡음)
+ * - 각 서버는 주기적으로 같은 채널에 PING을 발행하고 자기 PING 수신을 확인
+ * - 일정 시간 메시지를 못 받으면 동기화 끊김으로 판단 → Redis 직접 조회로 폴백
+ * - 폴백 중에는 다음 heartbeat에서 Redis를 SCAN해서 복제본을 다시 채운 뒤 로컬 조회로 복귀
+ *   (재적재 도중 다시 재구독되면 그 재적재는 버리고 폴백 유지)
+ *
+ * Bloom Filter 대신 정확한 Set을 쓰는 이유:
+ * - 폐기 토큰 수가 작고, TTL로 계속 비워짐
+ * - 오탐(false positive) 시 Redis를 다시 조회할 필요가 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist implements MessageListener, SubscriptionListener {
+
+    private static final String KEY_PREFIX = "BL:";
+    private static final String CHANNEL = "jwt:blacklist";
+    private static final String PING = "PING";
+    // 재적재 시 SCAN 1번에 받는 키 수 = PTTL 파이프라인 1번에 보내는 키 수
+    private static final int RELOAD_BATCH_SIZE = 1_000;
+
+    // PING 발행 주기 (ms)
+    private static final long HEARTBEAT_INTERVAL = 5_000L;
+    // 이 시간 동안 메시지가 없으면 동기화 끊김으로 판단 (ms)
+    private static final long STALE_THRESHOLD = 3 * HEARTBEAT_INTERVAL;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // tokenId → 만료 시각 (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // 로컬 복제본을 믿어도 되는지 여부 (false면 Redis 직접 조회)
+    private volatile boolean synced = false;
+    // 마지막으로 채널 메시지를 받은 시각 (epoch ms)
+    private volatile long lastMessageAt = 0L;
+    // 채널 (재)구독 횟수 (재적재 중에 재구독됐는지 확인용)
+    private final AtomicLong subscriptions = new AtomicLong();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 블랙리스트 등록
+     *
+     * @param tokenId    토큰 식별자
+     * @param ttlMillis  남은 유효 시간 (ms)
+     */
+    public void add(String tokenId, long ttlMillis) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+
+        redisTemplate.opsForValue().set(
+                KEY_PREFIX + tokenId, // Key: "BL:tokenId"
+                "logout",
+                ttlMillis,
+                TimeUnit.MILLISECONDS);
+
+        // 자기 자신은 즉시 반영, 다른 서버에는 채널로 전파
+        revoked.put(tokenId, expiresAt);
+        redisTemplate.convertAndSend(CHANNEL, expiresAt + ":" + tokenId);
+    }
+
+    /**
+     * 블랙리스트 일괄 등록 (파이프라인)
+     *
+     * SET 명령들과 전파 메시지 1건을 한 번에 보내 왕복 횟수를 줄입니다.
+     * (대량 폐기 시 TokenRevocationService에서 청크 단위로 호출)
+     *
+     * @param ttlByTokenId tokenId → 남은 유효 시간 (ms)
+     */
+    public void addAll(Map<String, Long> ttlByTokenId) {
+        if (ttlByTokenId.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        byte[] value = "logout".getBytes(StandardCharsets.UTF_8);
+        StringBuilder message = new StringBuilder();
+
+        ttlByTokenId.forEach((tokenId, ttl) -> {
+            long expiresAt = now + ttl;
+            revoked.put(tokenId, expiresAt);
+            if (message.length() > 0) {
+                message.append('\n');
+            }
+            message.append(expiresAt).append(':').append(tokenId);
+        });
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ttlByTokenId.forEach((tokenId, ttl) -> connection.stringCommands().set(
+                    (KEY_PREFIX + tokenId).getBytes(StandardCharsets.UTF_8),
+                    value,
+                    Expiration.milliseconds(ttl),
+                    RedisStringCommands.SetOption.upsert()));
+            connection.publish(
+                    CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    message.toString().getBytes(StandardCharsets.UTF_8));
+            return null;
+        });
+    }
+
+    /**
+     * 채널 (재)구독 완료 (연결이 끊겼다가 다시 구독된 경우 포함)
+     *
+     * 끊긴 동안 발행된 등록 메시지는 유실되었을 수 있으므로 복제본을 믿지 않음
+     * → Redis 직접 조회로 폴백, 다음 heartbeat에서 재적재
+     * (구독 스레드에서 호출되므로 여기서 Redis를 조회하지 않음)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscriptions.incrementAndGet();
+        lastMessageAt = System.currentTimeMillis();
+        if (synced) {
+            synced = false;
+            log.warn("블랙리스트 채널 재구독 → 재적재 전까지 Redis 직접 조회로 전환");
+        }
+    }
+
+    /**
+     * 블랙리스트 포함 여부
+     *
+     * @param tokenId 토큰 식별자
+     * @return 블랙리스트에 있으면 true
+     */
+    public boolean contains(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+
+        if (synced) {
+            // 로컬 복제본이 최신 → 네트워크 호출 없음
+            return false;
+        }
+
+        // 동기화 끊김 → Redis 직접 조회 (기존 방식)
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    /**
+     * 채널 메시지 수신
+     *
+     * 형식: "{만료시각}:{tokenId}" (일괄 등록은 줄바꿈으로 여러 건) 또는 "PING"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        lastMessageAt = System.currentTimeMillis();
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (PING.equals(body)) {
+            return;
+        }
+
+        for (String line : body.split("\n")) {
+            int separator = line.indexOf(':');
+            if (separator < 0) {
+                log.warn("알 수 없는 블랙리스트 메시지: {}", line);
+                continue;
+            }
+
+            long expiresAt = Long.parseLong(line.substring(0, separator));
+            revoked.put(line.substring(separator + 1), expiresAt);
+        }
+    }
+
+    /**
+     * 블랙리스트 키로 쓸 토큰 식별자
+     *
+     * - jti가 있으면 jti (22자)
+     * - jti 도입 전에 발급된 토큰은 기존처럼 토큰 원문 (전환 기간 호환, 최대 30분)
+     *
+     * @param claims 토큰 Claims
+     * @param token  토큰 원문
+     * @return 토큰 식별자
+     */
+    public static String tokenIdOf(Claims claims, String token) {
+        return claims.getId() != null ? claims.getId() : token;
+    }
+
+    /**
+     * 동기화 상태 점검 (주기 실행)
+     *
+     * 1. PING 발행 → 구독이 살아 있으면 곧 onMessage()로 돌아옴
+     * 2. 메시지가 끊겼으면 폴백 모드로 전환
+     * 3. 메시지가 다시 들어오면 Redis에서 복제본 재적재 후 로컬 모드로 복귀
+     * 4. 만료된 엔트리 정리
+     */
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL)
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        boolean streamAlive = now - lastMessageAt < STALE_THRESHOLD;
+
+        if (synced && !streamAlive) {
+            synced = false;
+            log.warn("블랙리스트 동기화 끊김 → Redis 직접 조회로 전환");
+        } else if (!synced && streamAlive) {
+            try {
+                long subscription = subscriptions.get();
+                reload();
+                synced = true;
+                // 재적재 도중 재구독됐으면 그 사이 유실분이 빠졌을 수 있음 → 다음 heartbeat에서 다시
+                if (subscription != subscriptions.get()) {
+                    synced = false;
+                } else {
+                    log.info("블랙리스트 동기화 완료 → 로컬 조회로 전환 (size={})", revoked.size());
+                }
+            } catch (Exception e) {
+                log.warn("블랙리스트 재적재 실패, Redis 직접 조회 유지: {}", e.getMessage());
+            }
+        }
+
+        revoked.entrySet().removeIf(entry -> entry.getValue() <= now);
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, PING);
+        } catch (Exception e) {
+            log.warn("블랙리스트 PING 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis의 "BL:*" 키를 SCAN해서 로컬 복제본 재적재
+     *
+     * 남은 TTL은 RELOAD_BATCH_SIZE개씩 모아 파이프라인으로 조회합니다.
+     * (키마다 PTTL을 보내면 블랙리스트 크기만큼 왕복)
+     */
+    private void reload() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(RELOAD_BATCH_SIZE)
+                .build();
+
+        List<String> keys = new ArrayList<>(RELOAD_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == RELOAD_BATCH_SIZE) {
+                    loadExpirations(keys);
+                    keys.clear();
+                }
+            }
+        }
+        loadExpirations(keys);
+    }
+
+    /**
+     * 키 목록의 남은 TTL을 파이프라인 1번으로 조회해서 복제본에 반영
+     */
+    private void loadExpirations(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < keys.size(); i++) {
+            // -2: 그 사이 만료됨, -1: TTL 없음 (정상 경로로는 만들어지지 않음)
+            if (ttls.get(i) instanceof Number ttl && ttl.longValue() > 0) {
+                revoked.put(keys.get(i).substring(KEY_PREFIX.length()), now + ttl.longValue());
+            }
+        }
+    }
+}
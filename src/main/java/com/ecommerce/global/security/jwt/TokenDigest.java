@@ -0,0 +1,36 @@
+package com.ecommerce.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 다이제스트 유틸
+ *
+ * JWT 원문(수백 byte)을 고정 길이(43자) 키로 줄일 때 사용합니다.
+ * - SHA-256 → Base64 URL (패딩 없음)
+ * - 캐시 키, Redis 키 등에 원문 대신 사용
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * SHA-256 다이제스트 (Base64 URL, 43자)
+     *
+     * @param token JWT 토큰
+     * @return 다이제스트 문자열
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 반드시 지원 (발생 불가)
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
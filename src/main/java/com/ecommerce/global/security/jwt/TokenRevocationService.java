@@ -0,0 +1,162 @@
+package com.ecommerce.global.security.jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토큰 일괄 폐기 서비스
+ *
+ * 사용 시점:
+ * - 사용자 정지(ban)
+ * - 보안 사고 대응 (유출된 토큰 대량 폐기)
+ * - 자격 증명 교체
+ *
+ * JwtTokenProvider.logout()은 토큰 1개씩 처리합니다.
+ * 수천~수십만 건을 폐기할 때는 이 서비스를 사용합니다.
+ * - 청크(1,000건) 단위로 나눠 Redis 파이프라인으로 전송
+ * - Refresh Token: DEL 1번에 여러 키
+ * - Access Token: SET 여러 개 + 전파 메시지 1건을 한 번에
+ * → 10만 건도 수백 번의 왕복으로 처리
+ *
+ * 사용자 단위로 모든 토큰을 끊을 때는 revokeAllSessions()가 가장 저렴합니다.
+ * (토큰 버전만 올리면 되므로 세션 수와 무관)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final JwtKeyHolder jwtKeyHolder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenBlacklist tokenBlacklist;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionStore tokenVersionStore;
+
+    /**
+     * 사용자의 모든 세션 폐기 ("모든 기기에서 로그아웃", 비밀번호 변경)
+     *
+     * 토큰 버전을 올려 이전에 발급된 Access/Refresh Token을 한 번에 무효화합니다.
+     * (세션 수와 상관없이 Redis 쓰기 2번)
+     *
+     * @param userId 사용자 ID
+     */
+    public void revokeAllSessions(String userId) {
+        long version = tokenVersionStore.increment(userId);
+        refreshTokenStore.delete(userId);
+
+        log.info("모든 세션 폐기 완료: userId={}, version={}", userId, version);
+    }
+
+    /**
+     * 여러 사용자의 모든 세션 일괄 폐기 (사용자 정지 등)
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    public void revokeAllSessions(Collection<String> userIds) {
+        for (List<String> chunk : chunk(userIds)) {
+            tokenVersionStore.incrementAll(chunk);
+            refreshTokenStore.deleteAll(chunk);
+        }
+
+        log.info("모든 세션 일괄 폐기 완료: users={}", userIds.size());
+    }
+
+    /**
+     * 사용자들의 Refresh Token 일괄 삭제
+     *
+     * 이미 발급된 Access Token은 만료(최대 30분)까지 유효합니다.
+     * 즉시 차단이 필요하면 revokeAccessTokens()도 함께 호출하세요.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 삭제된 Refresh Token 수
+     */
+    public long revokeRefreshTokens(Collection<String> userIds) {
+        long deleted = 0;
+        for (List<String> chunk : chunk(userIds)) {
+            deleted += refreshTokenStore.deleteAll(chunk);
+        }
+
+        log.info("Refresh Token 일괄 폐기 완료: requested={}, deleted={}", userIds.size(), deleted);
+        return deleted;
+    }
+
+    /**
+     * Access Token 일괄 블랙리스트 등록
+     *
+     * 이미 만료되었거나 서명이 잘못된 토큰은 건너뜁니다.
+     *
+     * @param accessTokens Access Token 목록
+     * @return 블랙리스트에 등록된 토큰 수
+     */
+    public long revokeAccessTokens(Collection<String> accessTokens) {
+        long revoked = 0;
+        long skipped = 0;
+
+        for (List<String> chunk : chunk(accessTokens)) {
+            long now = System.currentTimeMillis();
+            Map<String, Long> ttlByTokenId = new LinkedHashMap<>();
+
+            for (String token : chunk) {
+                try {
+                    Claims claims = jwtKeyHolder.getParser()
+                            .parseSignedClaims(token)
+                            .getPayload();
+                    long ttl = claims.getExpiration().getTime() - now;
+                    if (ttl > 0) {
+                        ttlByTokenId.put(TokenBlacklist.tokenIdOf(claims, token), ttl);
+                    }
+                } catch (ExpiredJwtException e) {
+                    // 이미 만료된 토큰은 폐기할 필요 없음
+                    skipped++;
+                    continue;
+                } catch (JwtException | IllegalArgumentException e) {
+                    skipped++;
+                    continue;
+                }
+
+                verifiedTokenCache.evict(token);
+            }
+
+            tokenBlacklist.addAll(ttlByTokenId);
+            revoked += ttlByTokenId.size();
+        }
+
+        log.info("Access Token 일괄 폐기 완료: requested={}, revoked={}, skipped={}",
+                accessTokens.size(), revoked, skipped);
+        return revoked;
+    }
+
+    /**
+     * CHUNK_SIZE 단위로 나누기
+     */
+    private List<List<String>> chunk(Collection<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>(CHUNK_SIZE);
+
+        for (String value : values) {
+            current.add(value);
+            if (current.size() == CHUNK_SIZE) {
+                chunks.add(current);
+                current = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+
+        return chunks;
+    }
+}
@@ -0,0 +1,165 @@
+package com.ecommerce.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 토큰 버전 (세대 카운터)
+ *
+ * 왜 필요한가?
+ * - "모든 기기에서 로그아웃", 비밀번호 변경 시 기존 토큰을 전부 무효화해야 함
+ * - 토큰마다 블랙리스트에 올리면 O(세션 수) 쓰기
+ * → 사용자별 버전 숫자 하나만 올리면 이전 버전 토큰이 모두 거부됨 (쓰기 1번)
+ *
+ * 동작 방식:
+ * 1. Redis "TV:{userId}" = 현재 버전 (없으면 0)
+ * 2. 토큰 발급 시 현재 버전을 "ver" 클레임에 기록
+ * 3. 검증 시 토큰의 ver < 현재 버전이면 거부
+ *
+ * 로컬 캐시:
+ * - 요청마다 Redis를 조회하지 않도록 사용자별 버전을 로컬에 보관
+ * - 버전이 오르면 "jwt:token-version" 채널로 전파 → 모든 서버가 즉시 갱신
+ * - 전파가 유실되어도 엔트리는 30초 뒤 만료 → 최대 30초 안에 반영
+ */
+@Slf4j
+@Component
+public class TokenVersionStore implements MessageListener {
+
+    private static final String KEY_PREFIX = "TV:";
+    private static final String CHANNEL = "jwt:token-version";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final long LOCAL_MAXIMUM_SIZE = 100_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // userId → 현재 버전
+    private final Cache<String, Long> versions;
+
+    public TokenVersionStore(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .expireAfterWrite(LOCAL_TTL)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "jwt.token-versions");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 사용자의 현재 토큰 버전
+     *
+     * 로컬 캐시에 없을 때만 Redis를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 현재 버전 (한 번도 올린 적 없으면 0)
+     */
+    public long currentVersion(String userId) {
+        return versions.get(userId, this::loadVersion);
+    }
+
+    /**
+     * 버전 올리기 (이전에 발급된 모든 토큰 무효화)
+     *
+     * @param userId 사용자 ID
+     * @return 새 버전
+     */
+    public long increment(String userId) {
+        Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + userId);
+        long newVersion = version != null ? version : 0L;
+
+        versions.put(userId, newVersion);
+        redisTemplate.convertAndSend(CHANNEL, userId + ":" + newVersion);
+
+        return newVersion;
+    }
+
+    /**
+     * 여러 사용자 버전 일괄 올리기 (파이프라인)
+     *
+     * @param userIds 사용자 ID 목록
+     */
+    public void incrementAll(Collection<String> userIds) {
+        List<String> ids = List.copyOf(userIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : ids) {
+                connection.stringCommands().incr((KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < ids.size(); i++) {
+            long newVersion = ((Number) results.get(i)).longValue();
+            versions.put(ids.get(i), newVersion);
+            if (message.length() > 0) {
+                message.append('\n');
+            }
+            message.append(ids.get(i)).append(':').append(newVersion);
+        }
+        redisTemplate.convertAndSend(CHANNEL, message.toString());
+    }
+
+    /**
+     * 채널 메시지 수신
+     *
+     * 형식: "{userId}:{버전}" (일괄 처리는 줄바꿈으로 여러 건)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        for (String line : body.split("\n")) {
+            int separator = line.lastIndexOf(':');
+            if (separator < 0) {
+                log.warn("알 수 없는 토큰 버전 메시지: {}", line);
+                continue;
+            }
+
+            String userId = line.substring(0, separator);
+            long version = Long.parseLong(line.substring(separator + 1));
+            // 순서가 뒤바뀐 메시지로 버전이 내려가지 않도록 큰 값 유지
+            versions.asMap().merge(userId, version, Math::max);
+        }
+    }
+
+    /**
+     * Redis에서 버전 조회
+     */
+    private Long loadVersion(String userId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
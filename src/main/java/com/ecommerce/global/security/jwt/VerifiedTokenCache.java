@@ -0,0 +1,130 @@
+package com.ecommerce.global.security.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검증된 Access Token 캐시 (로컬 메모리)
+ *
+ * 왜 필요한가?
+ * - 클라이언트는 같은 Access Token을 30분 동안 계속 보냄
+ * - 매 요청마다 서명 검증 + 권한 목록 생성을 반복할 필요 없음
+ *
+ * 동작 방식:
+ * - Key: 토큰의 SHA-256 다이제스트 (원문 토큰을 메모리에 두지 않음)
+ * - Value: 검증 결과 (이미 만들어진 Authentication 포함)
+ * - 크기 제한: jwt.verified-token-cache.maximum-size
+ * - 만료: 각 엔트리는 토큰 자체의 exp 시각에 만료
+ * - 로그아웃 시 evict() 호출로 즉시 제거
+ *
+ * 모니터링:
+ * - /actuator/metrics/cache.gets (result=hit|miss)
+ * - /actuator/metrics/cache.evictions
+ * - cache=jwt.verified-tokens 태그로 조회
+ *
+ * 주의:
+ * - 블랙리스트 체크는 캐시와 별개로 매 요청 수행 (다른 서버에서 로그아웃한 경우 대비)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final Cache<String, JwtVerificationResult> cache;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        long maximumSize = jwtProperties.getVerifiedTokenCache().getMaximumSize();
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // hit/miss/eviction 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        log.info("검증된 토큰 캐시 생성 완료: maximumSize={}", maximumSize);
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     *
+     * @param token Access Token
+     * @return 검증 결과 (없으면 null)
+     */
+    public JwtVerificationResult get(String token) {
+        return cache.getIfPresent(TokenDigest.sha256(token));
+    }
+
+    /**
+     * 검증 결과 저장 (성공한 결과만)
+     *
+     * @param token  Access Token
+     * @param result 검증 결과
+     */
+    public void put(String token, JwtVerificationResult result) {
+        if (result.isValid()) {
+            cache.put(TokenDigest.sha256(token), result);
+        }
+    }
+
+    /**
+     * 캐시에서 제거 (로그아웃 등)
+     *
+     * @param token Access Token
+     */
+    public void evict(String token) {
+        cache.invalidate(TokenDigest.sha256(token));
+    }
+
+    /**
+     * 전체 제거 (서명 키 교체 시 이전 키로 검증된 결과 폐기)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 (hit/miss/eviction)
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 엔트리별 만료 정책: 토큰의 exp 시각에 만료
+     */
+    private static class TokenExpiry implements Expiry<String, JwtVerificationResult> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtVerificationResult value, long currentTime) {
+            long remaining = Duration.between(Instant.now(), value.getExpiresAt()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtVerificationResult value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtVerificationResult value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.global.security.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.global.error.BusinessException;
+import com.ecommerce.global.error.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해싱 전용 실행기
+ *
+ * 왜 필요한가?
+ * - BCrypt는 일부러 느리게 만든 알고리즘 (1회 수십~수백 ms, CPU 100%)
+ * - 서블릿 스레드에서 직접 돌리면 로그인 폭주(Credential Stuffing) 시
+ *   모든 요청 스레드가 해싱에 묶여 상품 조회 같은 다른 API까지 멈춤
+ *
+ * 동작 방식:
+ * - 고정 크기 스레드 풀 (security.password-hashing.pool-size, 기본 CPU 코어 수)
+ * - 크기가 정해진 대기열 (security.password-hashing.queue-capacity)
+ * - 대기열이 가득 차면 기다리지 않고 즉시 503 (COMMON_SERVICE_UNAVAILABLE)
+ * → 해싱에 쓰이는 CPU와 대기 요청 수에 상한이 생김
+ *
+ * 지표:
+ * - executor.* (name=password-hashing): 실행 중/대기 중 작업 수, 처리 시간
+ * - password_hashing.rejected: 대기열이 가득 차서 거절된 요청 수
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()); // 가득 차면 RejectedExecutionException
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+        this.rejected = Counter.builder("password_hashing.rejected")
+                .description("대기열 초과로 거절된 비밀번호 해싱 요청 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 실행기 초기화: poolSize={}, queueCapacity={}",
+                properties.getPoolSize(), properties.getQueueCapacity());
+    }
+
+    /**
+     * 해싱 작업 비동기 실행
+     *
+     * @param task 해싱 작업 (encode, matches 등)
+     * @return 작업 결과
+     * @throws BusinessException 대기열이 가득 찬 경우 (503)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.debug("비밀번호 해싱 대기열 초과: queued={}", executor.getQueue().size()); // 폭주 중에는 건마다 로그를 남기지 않음 (지표로 확인)
+            throw new BusinessException(ErrorCode.COMMON_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * "password-hash-1" 형태의 데몬 스레드 생성 (스레드 덤프에서 구분용)
+     */
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.global.security.password;
+
+import java.util.Map;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 정책 (알고리즘 + cost)
+ *
+ * 왜 필요한가?
+ * - BCrypt cost가 라이브러리 기본값(10)으로 고정되어 있었음
+ * - 서버 성능이 바뀌면 같은 cost라도 해시 1회 시간이 달라짐
+ *   (빨라지면 보안이 약해지고, 느려지면 로그인 CPU 비용이 커짐)
+ *
+ * 동작 방식:
+ * 1. cost는 설정(strength)으로 고정 → 모든 서버가 같은 cost 사용
+ * 2. 시작 시 벤치마크로 목표 시간(target-latency)에 맞는 cost를 계산해 "권장값"으로 로그만 남김
+ *    - 최소 cost로 해시 시간을 측정, cost +1마다 시간이 2배
+ *    - 설정값과 다르면 WARN → 운영자가 설정을 바꿔 전체 서버에 한 번에 반영
+ * 3. 해시에 알고리즘을 접두사로 저장 → "{bcrypt}$2a$12$..."
+ *    (cost는 BCrypt 해시 안에 이미 들어 있음)
+ * 4. 로그인 성공 시 저장된 해시의 cost가 현재보다 낮거나 접두사가 없으면
+ *    upgradeEncoding() == true → 새 cost로 다시 해시해서 저장
+ *
+ * 왜 측정값을 바로 쓰지 않나?
+ * - 서버마다 CPU가 달라 측정값이 다르면 같은 사용자의 해시가
+ *   로그인한 서버에 따라 cost가 오르내림 (매번 다시 해시 + DB 쓰기)
+ * - 느린 서버가 cost를 낮추면 그 서버에서 만든 해시는 보안이 약해짐
+ *
+ * 접두사 없는 기존 해시($2a$10$...)도 그대로 로그인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PasswordHashingPolicy {
+
+    private static final String ENCODING_ID = "bcrypt";
+    private static final String SAMPLE_PASSWORD = "Benchmark1!";
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    @Getter
+    private final int strength;
+
+    public PasswordHashingPolicy(PasswordHashingProperties properties) {
+        this.strength = properties.getStrength();
+        if (properties.isCalibrate()) {
+            recommend(properties);
+        }
+    }
+
+    /**
+     * 현재 정책의 PasswordEncoder 생성
+     *
+     * @return {bcrypt} 접두사로 저장하는 DelegatingPasswordEncoder
+     */
+    public PasswordEncoder createPasswordEncoder() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                ENCODING_ID,
+                Map.of(ENCODING_ID, new BCryptPasswordEncoder(strength)));
+        // 접두사 없는 기존 해시 검증용
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    /**
+     * 목표 시간에 맞는 cost 측정 (권장값 로그만, 적용하지 않음)
+     *
+     * 최소 cost로 몇 번 해시해서 가장 빠른 시간을 기준으로 삼습니다.
+     * (JIT 워밍업, GC 등 잡음 제거)
+     */
+    private void recommend(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(properties.getMinStrength());
+        probe.encode(SAMPLE_PASSWORD); // 워밍업
+
+        long fastest = Long.MAX_VALUE;
+        for (int round = 0; round < BENCHMARK_ROUNDS; round++) {
+            long start = System.nanoTime();
+            probe.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        long target = properties.getTargetLatency().toNanos();
+        int recommended = properties.getMinStrength();
+        long estimate = fastest;
+        while (recommended < properties.getMaxStrength() && estimate * 2 <= target) {
+            recommended++;
+            estimate *= 2;
+        }
+
+        long current = (long) (fastest * Math.pow(2, strength - properties.getMinStrength()));
+        if (recommended == strength) {
+            log.info("BCrypt cost: strength={}, 예상 해시 시간={}ms (목표 {}ms)",
+                    strength, current / 1_000_000, properties.getTargetLatency().toMillis());
+        } else {
+            log.warn("BCrypt cost: strength={} (예상 {}ms), 이 서버 기준 권장 strength={} (예상 {}ms, 목표 {}ms)"
+                    + " - 전체 서버의 security.password-hashing.strength를 함께 바꿔야 적용됨",
+                    strength, current / 1_000_000, recommended, estimate / 1_000_000,
+                    properties.getTargetLatency().toMillis());
+        }
+    }
+}
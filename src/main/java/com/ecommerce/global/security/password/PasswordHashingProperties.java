@@ -0,0 +1,35 @@
+package com.ecommerce.global.security.password;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/* 
+ * 비밀번호 해싱 설정 Properties
+ * 
+ * application.yml의 security.password-hashing.* 값을 자동으로 매핑
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+
+    private int poolSize = Runtime.getRuntime().availableProcessors(); // 해싱 전용 스레드 수 (기본: CPU 코어 수)
+    private int queueCapacity = 100; // 대기열 크기 (넘치면 즉시 503)
+
+    private int postHashPoolSize = 16; // 로그인 해싱 이후 단계(토큰 발급 등 Redis/DB I/O) 스레드 수 (LoginExecutorConfig)
+    private int postHashQueueCapacity = 200; // 해싱 이후 단계 대기열 크기 (넘치면 즉시 503)
+
+    private int strength = 12; // BCrypt cost (모든 서버가 같은 값을 쓰도록 설정으로 고정)
+
+    private boolean calibrate = true; // 시작 시 벤치마크로 권장 cost를 로그에 남김 (적용은 하지 않음)
+    private Duration targetLatency = Duration.ofMillis(250); // 권장 cost 계산 기준: 해시 1회 목표 시간
+    private int minStrength = 10; // 권장 cost 하한 (라이브러리 기본값보다 약해지지 않도록)
+    private int maxStrength = 16; // 권장 cost 상한
+
+}
@@ -9,6 +9,8 @@ import org.springframework.transaction.annotation.Transactional;
 import com.ecommerce.domain.user.entity.User;
 import com.ecommerce.domain.user.exception.UserNotFoundException;
 import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.domain.user.service.UserCache;
+import com.ecommerce.domain.user.service.UserSnapshot;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * 사용자 조회
@@ -62,19 +65,21 @@ public class CustomUserDetailsService implements UserDetailsService {
      * - JWT의 sub에는 publicId가 저장됨
      * - publicId로 사용자를 찾아 권한 확인
      * 
+     * UserCache를 거치므로 캐시 hit이면 DB를 조회하지 않습니다.
+     * 반환되는 User에는 비밀번호가 없습니다. (인증 이후 권한 확인 전용)
+     * 
      * @param publicId 사용자 Public ID (UUID)
      * @return UserDetails 구현체
      */
-    @Transactional(readOnly = true)
     public UserDetails loadUserByPublicId(String publicId) {
         log.debug("Public ID로 사용자 조회: {}", publicId);
 
-        User user = userRepository.findByPublicIdAndDeletedFalse(publicId)
+        UserSnapshot user = userCache.findByPublicId(publicId)
                 .orElseThrow(() -> new UserNotFoundException());
 
-        log.debug("사용자 조회 성공: {}", user.getEmail());
+        log.debug("사용자 조회 성공: {}", user.email());
 
-        return new CustomUserDetails(user);
+        return new CustomUserDetails(user.toDetachedUser());
     }
 
 }
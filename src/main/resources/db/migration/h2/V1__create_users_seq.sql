@@ -0,0 +1,3 @@
+-- User.id: IDENTITY → 시퀀스 (pooled-lo, 할당 크기 50)
+-- local 프로필(H2 메모리 DB)은 매번 빈 DB로 시작하므로 기존 id 보정은 필요 없음
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
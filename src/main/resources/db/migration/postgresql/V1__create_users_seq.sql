@@ -0,0 +1,11 @@
+-- User.id: IDENTITY → 시퀀스 (pooled-lo, 할당 크기 50)
+-- INCREMENT BY는 BaseEntity.ID_ALLOCATION_SIZE와 같아야 함
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+
+-- 기존 IDENTITY로 만든 id와 겹치지 않도록 시퀀스를 현재 최대 id 다음으로 이동
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'users') THEN
+        PERFORM setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM users), false);
+    END IF;
+END $$;
@@ -0,0 +1,11 @@
+-- users.public_id: varchar(36) → native uuid (16byte)
+-- 기존 값(UUIDv4 문자열)은 그대로 변환되고, 새로 가입하는 사용자부터 UUIDv7이 저장됨
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'users' AND column_name = 'public_id' AND data_type <> 'uuid'
+    ) THEN
+        ALTER TABLE users ALTER COLUMN public_id TYPE uuid USING public_id::uuid;
+    END IF;
+END $$;
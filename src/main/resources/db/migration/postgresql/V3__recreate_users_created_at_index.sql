@@ -0,0 +1,12 @@
+-- idx_users_created_at: (created_at) → (created_at, id)
+-- 관리자 사용자 목록의 keyset 페이지네이션 (ORDER BY created_at DESC, id DESC)을 인덱스 순서대로 읽기 위함
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_name = 'users'
+    ) THEN
+        DROP INDEX IF EXISTS idx_users_created_at;
+        CREATE INDEX idx_users_created_at ON users (created_at, id);
+    END IF;
+END $$;
@@ -0,0 +1,11 @@
+-- users.last_active_at: 마지막 활동 시간 (UserActivityTracker가 몇 초마다 모아서 기록)
+-- 기존 사용자는 NULL (활동 기록 전)
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_name = 'users'
+    ) THEN
+        ALTER TABLE users ADD COLUMN IF NOT EXISTS last_active_at timestamp(6);
+    END IF;
+END $$;
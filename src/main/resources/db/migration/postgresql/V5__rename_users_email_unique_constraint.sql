@@ -0,0 +1,18 @@
+-- users.email unique 제약 이름 고정: Hibernate 자동 이름(UK...) → uk_users_email
+-- 가입 시 unique 위반이 이메일 중복인지 제약 이름으로 구분하기 위함 (AuthService.insertUser)
+DO $$
+DECLARE
+    old_name text;
+BEGIN
+    SELECT c.conname INTO old_name
+    FROM pg_constraint c
+    JOIN pg_class t ON t.oid = c.conrelid
+    JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = ANY (c.conkey)
+    WHERE t.relname = 'users' AND c.contype = 'u'
+      AND array_length(c.conkey, 1) = 1 AND a.attname = 'email'
+      AND c.conname <> 'uk_users_email';
+
+    IF old_name IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO uk_users_email', old_name);
+    END IF;
+END $$;
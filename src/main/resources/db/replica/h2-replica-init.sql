@@ -0,0 +1,27 @@
+-- replica 프로필 전용: H2 메모리 DB를 읽기 복제본처럼 쓰기 위한 초기화
+-- 커넥션마다 실행되므로(H2 INIT) 모두 IF NOT EXISTS
+--
+-- H2에는 복제 기능이 없으므로 primary의 데이터는 복제되지 않습니다.
+-- 읽기 전용 쿼리가 실패하지 않도록 같은 스키마만 만들어 둡니다.
+
+-- User 엔티티와 같은 구조 (primary는 Hibernate ddl-auto로 생성)
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL PRIMARY KEY,
+    public_id UUID NOT NULL UNIQUE,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    deleted BOOLEAN NOT NULL,
+    deleted_at TIMESTAMP(6),
+    last_active_at TIMESTAMP(6)
+);
+
+-- 복제본 식별 + 가짜 복제 지연 (datasource.replicas.lag-query가 읽음)
+-- 지연을 흉내 내려면 H2 콘솔에서: UPDATE replica_marker SET lag_seconds = 30
+CREATE TABLE IF NOT EXISTS replica_marker (
+    name VARCHAR(50) NOT NULL PRIMARY KEY,
+    lag_seconds DOUBLE PRECISION NOT NULL
+);
@@ -0,0 +1,189 @@
+package com.ecommerce.domain.auth.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.support.Benchmark;
+
+/**
+ * 로그인 폭주 중 다른 API 응답 시간 (H2 + Redis 컨테이너, 실제 Tomcat)
+ *
+ * 실행: ./gradlew benchmark --tests '*LoginFloodBenchmark'
+ *       (-Pbenchmark.login-clients=400 -Pbenchmark.seconds=20 처럼 조절)
+ *
+ * 1. 기준: 로그인 없이 공개 API(GET /.well-known/jwks.json)만 호출 → p50 / p99
+ * 2. 폭주: 같은 호출을 하면서 login-clients개의 클라이언트가 쉬지 않고 로그인 (BCrypt cost 12)
+ * → 해싱은 전용 실행기에서만 돌고 서블릿 스레드는 바로 반환되므로,
+ *   Tomcat 스레드(40개)보다 많은 로그인이 몰려도 다른 API의 p99가 크게 늘지 않아야 함
+ * → 실행기가 가득 차면 로그인은 기다리지 않고 503 (응답 코드별 건수 출력)
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=" + LoginFloodBenchmark.TOMCAT_THREADS,
+        "security.password-hashing.calibrate=false"
+})
+@ActiveProfiles({ "local", "benchmark" })
+@Testcontainers(disabledWithoutDocker = true)
+class LoginFloodBenchmark {
+
+    static final int TOMCAT_THREADS = 40;
+
+    private static final int LOGIN_CLIENTS = Benchmark.intProperty("login-clients", 200);
+    private static final int PROBE_CLIENTS = 4;
+    private static final Duration PHASE = Duration.ofSeconds(Benchmark.intProperty("seconds", 10));
+
+    private static final String EMAIL = "flood@example.com";
+    private static final String PASSWORD = "Password1!";
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @LocalServerPort
+    private int port;
+
+    private HttpClient client;
+    private ExecutorService clients;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        HttpResponse<String> signUp = client.send(post("/api/auth/signup",
+                "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\",\"name\":\"폭주\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(signUp.statusCode()).isIn(201, 409);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    void unrelatedEndpointLatencyDuringLoginFlood() throws Exception {
+        // JIT / 커넥션 워밍업
+        probe(Duration.ofSeconds(2));
+
+        Benchmark.Result baseline = probe(PHASE).result("jwks (기준)");
+
+        AtomicBoolean flooding = new AtomicBoolean(true);
+        Map<Integer, AtomicInteger> loginStatuses = new ConcurrentHashMap<>();
+        List<Future<?>> flood = new ArrayList<>();
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            flood.add(clients.submit(() -> login(flooding, loginStatuses)));
+        }
+
+        Probe duringFlood;
+        try {
+            Thread.sleep(1_000); // 대기열이 찰 때까지
+            duringFlood = probe(PHASE);
+        } finally {
+            flooding.set(false);
+        }
+        for (Future<?> future : flood) {
+            future.get();
+        }
+
+        Benchmark.print("로그인 폭주 중 공개 API 응답 시간 (login-clients=" + LOGIN_CLIENTS
+                + ", tomcat threads=" + TOMCAT_THREADS + ", " + PHASE.toSeconds() + "s)",
+                List.of(baseline, duringFlood.result("jwks (로그인 폭주 중)")));
+        System.out.println("로그인 응답 코드별 건수: " + loginStatuses);
+
+        assertThat(duringFlood.failures).as("폭주 중 공개 API 실패 수").isZero();
+        assertThat(loginStatuses).containsKey(200);
+    }
+
+    /**
+     * PROBE_CLIENTS개 클라이언트가 duration 동안 jwks를 반복 호출
+     */
+    private Probe probe(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < PROBE_CLIENTS; i++) {
+            futures.add(clients.submit(() -> {
+                List<Long> nanos = new ArrayList<>();
+                HttpRequest request = HttpRequest.newBuilder(uri("/.well-known/jwks.json")).GET().build();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    nanos.add(System.nanoTime() - start);
+                    if (response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return nanos;
+            }));
+        }
+
+        List<Long> all = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            all.addAll(future.get());
+        }
+        return new Probe(all.stream().mapToLong(Long::longValue).toArray(), failures.get());
+    }
+
+    /**
+     * 폭주 클라이언트 1개: 멈출 때까지 로그인 반복, 응답 코드별로 집계
+     */
+    private Void login(AtomicBoolean running, Map<Integer, AtomicInteger> statuses) throws Exception {
+        HttpRequest request = post("/api/auth/login",
+                "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}");
+        while (running.get()) {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            statuses.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+        }
+        return null;
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Probe(long[] nanos, int failures) {
+
+        Benchmark.Result result(String name) {
+            return Benchmark.Result.of(name, 1, nanos);
+        }
+    }
+}
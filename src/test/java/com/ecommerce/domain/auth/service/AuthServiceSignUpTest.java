@@ -0,0 +1,218 @@
+package com.ecommerce.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.domain.auth.dto.request.SignUpRequest;
+import com.ecommerce.domain.auth.exception.DuplicateEmailException;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.domain.user.service.UserService;
+import com.ecommerce.global.config.JpaConfig;
+import com.ecommerce.global.error.ErrorCode;
+import com.ecommerce.global.security.jwt.JwtTokenProvider;
+import com.ecommerce.global.security.jwt.TokenRevocationService;
+import com.ecommerce.global.security.password.PasswordHashingExecutor;
+import com.ecommerce.global.security.userdetails.CustomUserDetailsService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 회원가입 커넥션 점유 / 동시 가입 테스트 (H2, local 프로필)
+ *
+ * - 해싱하는 동안에는 트랜잭션도, DB 커넥션도 잡고 있지 않아야 함
+ * - 같은 이메일로 동시에 가입하면 INSERT는 1건, 나머지는 AUTH_DUPLICATE_EMAIL
+ * - 이메일 unique 제약이 아닌 다른 제약 위반은 중복 에러로 바뀌지 않음
+ */
+@DataJpaTest
+@ActiveProfiles("local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 직접 트랜잭션을 관리하도록
+@Import(JpaConfig.class)
+class AuthServiceSignUpTest {
+
+    private static final int THREADS = 8;
+    private static final String EMAIL = "race@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private RecordingPasswordEncoder passwordEncoder;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        passwordEncoder = new RecordingPasswordEncoder(dataSource.unwrap(HikariDataSource.class));
+
+        // 항상 "있을 수도 있음" → 중복 체크 쿼리 + unique 제약 경로를 모두 거침
+        EmailBloomFilter emailBloomFilter = mock(EmailBloomFilter.class);
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
+
+        authService = new AuthService(
+                userRepository,
+                passwordEncoder,
+                mock(CustomUserDetailsService.class),
+                mock(JwtTokenProvider.class),
+                mock(PasswordHashingExecutor.class),
+                mock(UserService.class),
+                emailBloomFilter,
+                new TransactionTemplate(transactionManager),
+                mock(TokenRevocationService.class),
+                Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("해싱하는 동안 트랜잭션과 DB 커넥션을 잡지 않음")
+    void signUpHoldsNoConnectionWhileHashing() {
+        authService.signUp(request(EMAIL));
+
+        assertThat(passwordEncoder.activeConnections).containsExactly(0);
+        assertThat(passwordEncoder.transactionActive).containsExactly(false);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 가입하면 1건만 저장되고 나머지는 중복 에러")
+    void concurrentDuplicateSignUpInsertsOnce() throws Exception {
+        // 모든 스레드가 동시에 해싱 중인 순간에 커넥션 수를 기록
+        passwordEncoder.barrier = new CyclicBarrier(THREADS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> authService.signUp(request(EMAIL))));
+            }
+
+            int succeeded = 0;
+            List<ErrorCode> errors = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(DuplicateEmailException.class);
+                    errors.add(((DuplicateEmailException) e.getCause()).getErrorCode());
+                }
+            }
+
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(errors).hasSize(THREADS - 1).containsOnly(ErrorCode.AUTH_DUPLICATE_EMAIL);
+            assertThat(userRepository.count()).isEqualTo(1);
+            assertThat(passwordEncoder.activeConnections).hasSize(THREADS).containsOnly(0);
+            assertThat(passwordEncoder.transactionActive).containsOnly(false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("이메일 unique 제약이 아닌 제약 위반은 그대로 던짐 (중복 에러로 바꾸지 않음)")
+    void otherConstraintViolationIsNotDuplicateEmail() {
+        // name 컬럼은 50자 제한 (요청 DTO 검증을 거치지 않은 경우 DB 제약에 걸림)
+        SignUpRequest tooLongName = SignUpRequest.builder()
+                .email(EMAIL)
+                .password("Password1!")
+                .name("가".repeat(51))
+                .build();
+
+        assertThatThrownBy(() -> authService.signUp(tooLongName))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(userRepository.count()).isZero();
+    }
+
+    private static SignUpRequest request(String email) {
+        return SignUpRequest.builder()
+                .email(email)
+                .password("Password1!")
+                .name("테스트")
+                .build();
+    }
+
+    /**
+     * 해싱 시점의 커넥션 풀 / 트랜잭션 상태를 기록하는 PasswordEncoder
+     */
+    private static class RecordingPasswordEncoder implements PasswordEncoder {
+
+        private final HikariDataSource pool;
+        private final List<Integer> activeConnections = new CopyOnWriteArrayList<>();
+        private final List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        private volatile CyclicBarrier barrier;
+
+        private RecordingPasswordEncoder(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            awaitOthers();
+            activeConnections.add(pool.getHikariPoolMXBean().getActiveConnections());
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            awaitOthers();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void awaitOthers() {
+            if (barrier == null) {
+                return;
+            }
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (BrokenBarrierException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
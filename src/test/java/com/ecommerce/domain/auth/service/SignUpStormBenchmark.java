@@ -0,0 +1,211 @@
+package com.ecommerce.domain.auth.service;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.domain.auth.dto.request.SignUpRequest;
+import com.ecommerce.domain.auth.exception.DuplicateEmailException;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.domain.user.service.UserService;
+import com.ecommerce.global.config.JpaConfig;
+import com.ecommerce.global.security.jwt.JwtTokenProvider;
+import com.ecommerce.global.security.jwt.TokenRevocationService;
+import com.ecommerce.global.security.password.PasswordHashingExecutor;
+import com.ecommerce.global.security.userdetails.CustomUserDetailsService;
+import com.ecommerce.support.Benchmark;
+import com.ecommerce.support.BenchmarkUsers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 무작위 이메일 가입 폭주 시 EmailBloomFilter 효과 (PostgreSQL, 기본 100만 명)
+ *
+ * 실행: ./gradlew benchmark --tests '*SignUpStormBenchmark'
+ *       (-Pbenchmark.users=1000000 -Pbenchmark.signups=10000 -Pbenchmark.duplicate-percent=10 처럼 조절)
+ *
+ * - 봇처럼 대부분 처음 보는 이메일로, duplicate-percent%는 이미 가입된 이메일로 가입 요청
+ * - 필터 재구성 전 (항상 "있을 수도 있음" = 기존 동작) vs 재구성 후를 같은 폭주로 비교
+ * - 각 경우마다 signup.email_filter* 카운터, 오탐률, Hibernate Statistics의 쿼리 수를 출력
+ * - 비밀번호 해싱은 고정 문자열로 대체 (DB 왕복 비용만 비교)
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles({ "dev", "benchmark" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스가 직접 트랜잭션을 관리하도록
+@Testcontainers(disabledWithoutDocker = true)
+@Import(JpaConfig.class)
+class SignUpStormBenchmark {
+
+    private static final int USERS = Benchmark.intProperty("users", 1_000_000);
+    private static final int SIGNUPS = Benchmark.intProperty("signups", 10_000);
+    private static final int DUPLICATE_PERCENT = Benchmark.intProperty("duplicate-percent", 10);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean seeded;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            BenchmarkUsers.insert(jdbcTemplate, USERS);
+            seeded = true;
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void randomEmailStormWithAndWithoutFilter() throws Exception {
+        List<Benchmark.Result> results = new ArrayList<>();
+        List<String> reports = new ArrayList<>();
+
+        // 재구성 전: 필터가 없으므로 모든 요청이 "있을 수도 있음" → 매번 존재 여부 쿼리
+        MeterRegistry withoutFilter = new SimpleMeterRegistry();
+        results.add(storm("필터 재구성 전 (기존 동작)", emailBloomFilter(withoutFilter), withoutFilter, reports));
+
+        MeterRegistry withFilter = new SimpleMeterRegistry();
+        EmailBloomFilter filter = emailBloomFilter(withFilter);
+        filter.rebuild();
+        results.add(storm("필터 재구성 후", filter, withFilter, reports));
+
+        Benchmark.print("가입 폭주 " + SIGNUPS + "건 (users=" + USERS + ", 중복 " + DUPLICATE_PERCENT + "%)", results);
+        reports.forEach(System.out::println);
+    }
+
+    /**
+     * SIGNUPS건 가입 요청 후 처리량과 카운터 / 쿼리 수 기록
+     */
+    private Benchmark.Result storm(String name, EmailBloomFilter filter, MeterRegistry meterRegistry,
+            List<String> reports) throws Exception {
+        AuthService authService = authService(filter);
+        List<SignUpRequest> requests = requests();
+        int[] duplicates = new int[1];
+
+        statistics.clear();
+        Benchmark.Result result = Benchmark.throughput(name, SIGNUPS, () -> {
+            for (SignUpRequest request : requests) {
+                try {
+                    authService.signUp(request);
+                } catch (DuplicateEmailException e) {
+                    duplicates[0]++;
+                }
+            }
+        });
+
+        double definiteMisses = count(meterRegistry, "signup.email_filter", "definite_miss");
+        double maybes = count(meterRegistry, "signup.email_filter", "maybe");
+        double falsePositives = meterRegistry.get("signup.email_filter.false_positive").counter().count();
+        // 새 이메일 중 "있을 수도 있음"으로 판정된 비율 (재구성 전에는 카운트하지 않음)
+        double newEmails = definiteMisses + falsePositives;
+        reports.add(String.format(
+                "%s: definite_miss=%,.0f maybe=%,.0f false_positive=%,.0f (오탐률 %.3f%%), 중복 거절 %,d건%n"
+                        + "  쿼리 실행 %,d건 (존재 여부 확인), JDBC statement %,d건, INSERT %,d건",
+                name, definiteMisses, maybes, falsePositives,
+                newEmails == 0 ? 0 : falsePositives * 100 / newEmails, duplicates[0],
+                statistics.getQueryExecutionCount(), statistics.getPrepareStatementCount(),
+                statistics.getEntityInsertCount()));
+        return result;
+    }
+
+    private static double count(MeterRegistry meterRegistry, String name, String result) {
+        return meterRegistry.get(name).tag("result", result).counter().count();
+    }
+
+    /**
+     * 처음 보는 이메일 + duplicate-percent%는 이미 가입된 이메일 (BenchmarkUsers 형식)
+     */
+    private static List<SignUpRequest> requests() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<SignUpRequest> requests = new ArrayList<>(SIGNUPS);
+        for (int i = 0; i < SIGNUPS; i++) {
+            String email = random.nextInt(100) < DUPLICATE_PERCENT
+                    ? "user" + random.nextInt(1, USERS + 1) + "@bench.test"
+                    : UUID.randomUUID() + "@storm.test";
+            requests.add(SignUpRequest.builder()
+                    .email(email)
+                    .password("Password1!")
+                    .name("storm")
+                    .build());
+        }
+        return requests;
+    }
+
+    private EmailBloomFilter emailBloomFilter(MeterRegistry meterRegistry) {
+        return new EmailBloomFilter(userRepository, new TransactionTemplate(transactionManager), meterRegistry,
+                USERS + SIGNUPS * 2L, 0.01);
+    }
+
+    private AuthService authService(EmailBloomFilter emailBloomFilter) {
+        return new AuthService(
+                userRepository,
+                new FixedPasswordEncoder(),
+                mock(CustomUserDetailsService.class),
+                mock(JwtTokenProvider.class),
+                mock(PasswordHashingExecutor.class),
+                mock(UserService.class),
+                emailBloomFilter,
+                new TransactionTemplate(transactionManager),
+                mock(TokenRevocationService.class),
+                Runnable::run);
+    }
+
+    /**
+     * 해싱 비용을 빼기 위한 PasswordEncoder
+     */
+    private static class FixedPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "benchmark";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
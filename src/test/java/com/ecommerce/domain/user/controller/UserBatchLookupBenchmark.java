@@ -0,0 +1,196 @@
+package com.ecommerce.domain.user.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.domain.user.dto.request.UserBatchLookupRequest;
+import com.ecommerce.support.Benchmark;
+import com.ecommerce.support.BenchmarkUsers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 사용자 1,000명 조회: POST /api/users/batch 1번 vs GET /api/users/{publicId} 1,000번
+ * (PostgreSQL + Redis 컨테이너, 실제 Tomcat, 기본 100만 명)
+ *
+ * 실행: ./gradlew benchmark --tests '*UserBatchLookupBenchmark'
+ *       (-Pbenchmark.users=1000000 -Pbenchmark.rounds=20 처럼 조절)
+ *
+ * - 라운드마다 BenchmarkUsers가 만든 사용자 중 아직 조회하지 않은 1,000명씩 사용
+ *   (캐시 miss: 단건은 요청마다 DB 조회, 일괄은 IN 쿼리 + Redis MGET / 파이프라인)
+ * - 같은 1,000명을 다시 조회 (캐시 hit: 남는 차이는 HTTP 왕복 + 인증 필터 비용)
+ * - 결과의 ops/s는 초당 조회한 사용자 수
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "security.password-hashing.calibrate=false"
+})
+@ActiveProfiles({ "dev", "benchmark" })
+@Testcontainers(disabledWithoutDocker = true)
+class UserBatchLookupBenchmark {
+
+    private static final int USERS = Benchmark.intProperty("users", 1_000_000);
+    private static final int ROUNDS = Benchmark.intProperty("rounds", 20);
+    private static final int BATCH_SIZE = UserBatchLookupRequest.MAX_SIZE;
+
+    private static final String EMAIL = "batch-lookup@example.com";
+    private static final String PASSWORD = "Password1!";
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static boolean seeded;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpClient client;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (!seeded) {
+            BenchmarkUsers.insert(jdbcTemplate, USERS);
+            seeded = true;
+        }
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // 시드 사용자의 비밀번호는 해시가 아니므로 조회용 사용자를 따로 가입
+        HttpResponse<String> signUp = client.send(post("/api/auth/signup",
+                "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\",\"name\":\"일괄조회\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(signUp.statusCode()).isIn(201, 409);
+
+        HttpResponse<String> login = client.send(post("/api/auth/login",
+                "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(login.statusCode()).isEqualTo(200);
+        accessToken = objectMapper.readTree(login.body()).path("data").path("accessToken").asText();
+    }
+
+    @Test
+    void batchVersusSequentialLookups() throws Exception {
+        assertThat((ROUNDS * 2 + 1) * BATCH_SIZE).as("라운드마다 새 사용자가 필요").isLessThan(USERS - BATCH_SIZE);
+
+        // JIT / 커넥션 워밍업 (측정에 쓰지 않는 사용자)
+        List<String> warmup = publicIds(USERS - BATCH_SIZE);
+        batch(warmup);
+        sequential(warmup);
+
+        long[] sequentialCold = new long[ROUNDS];
+        long[] batchCold = new long[ROUNDS];
+        long[] sequentialWarm = new long[ROUNDS];
+        long[] batchWarm = new long[ROUNDS];
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // 라운드마다 처음 보는 사용자 2,000명 → 절반은 단건, 절반은 일괄
+            List<String> forSequential = publicIds(round * 2 * BATCH_SIZE);
+            List<String> forBatch = publicIds((round * 2 + 1) * BATCH_SIZE);
+
+            sequentialCold[round] = timed(() -> sequential(forSequential));
+            batchCold[round] = timed(() -> batch(forBatch));
+            sequentialWarm[round] = timed(() -> sequential(forSequential));
+            batchWarm[round] = timed(() -> batch(forBatch));
+        }
+
+        Benchmark.print("사용자 " + BATCH_SIZE + "명 조회 x " + ROUNDS + "라운드 (users=" + USERS + ")", List.of(
+                Benchmark.Result.of("GET x " + BATCH_SIZE + " (캐시 miss)", BATCH_SIZE, sequentialCold),
+                Benchmark.Result.of("POST /batch (캐시 miss)", BATCH_SIZE, batchCold),
+                Benchmark.Result.of("GET x " + BATCH_SIZE + " (캐시 hit)", BATCH_SIZE, sequentialWarm),
+                Benchmark.Result.of("POST /batch (캐시 hit)", BATCH_SIZE, batchWarm)));
+    }
+
+    /**
+     * 사용자마다 GET /api/users/{publicId}
+     */
+    private void sequential(List<String> publicIds) throws Exception {
+        for (String publicId : publicIds) {
+            HttpResponse<Void> response = client.send(authorized("/api/users/" + publicId).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+    }
+
+    /**
+     * POST /api/users/batch 1번
+     */
+    private void batch(List<String> publicIds) throws Exception {
+        String body = objectMapper.writeValueAsString(new UserBatchLookupRequest(publicIds));
+        HttpResponse<String> response = client.send(authorized("/api/users/batch")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        JsonNode users = objectMapper.readTree(response.body()).path("data");
+        assertThat(users).hasSize(publicIds.size());
+        users.forEach(user -> assertThat(user.path("found").asBoolean()).isTrue());
+    }
+
+    /**
+     * id가 afterId보다 큰 시드 사용자 BATCH_SIZE명의 publicId
+     */
+    private List<String> publicIds(int afterId) {
+        List<String> publicIds = jdbcTemplate.queryForList(
+                "SELECT public_id::text FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                String.class, afterId, BATCH_SIZE);
+        assertThat(publicIds).hasSize(BATCH_SIZE);
+        return publicIds;
+    }
+
+    private static long timed(Benchmark.Task task) throws Exception {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + accessToken);
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
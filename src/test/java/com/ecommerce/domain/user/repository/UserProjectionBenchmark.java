@@ -0,0 +1,131 @@
+package com.ecommerce.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.domain.user.service.UserSnapshot;
+import com.ecommerce.global.config.JpaConfig;
+import com.ecommerce.support.Benchmark;
+import com.ecommerce.support.BenchmarkUsers;
+import com.sun.management.ThreadMXBean;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 이메일로 사용자 1명 조회: 엔티티 vs DTO 프로젝션 (PostgreSQL, 기본 10만 명)
+ *
+ * 실행: ./gradlew benchmark --tests '*UserProjectionBenchmark'
+ *       (-Pbenchmark.users=100000 -Pbenchmark.lookups=10000 처럼 조절)
+ *
+ * - 엔티티: findByEmailAndDeletedFalse + UserSnapshot.from (프로젝션 도입 전 조회 API 경로)
+ * - 프로젝션: findSnapshotByEmail (비밀번호 해시, 감사 컬럼을 읽지 않고 영속성 컨텍스트에 등록하지 않음)
+ * - 조회 1건당 지연 시간, 할당 바이트 (조회하는 스레드 기준),
+ *   Hibernate Statistics (엔티티 로드, 2차 캐시 저장, JDBC statement 수)를 출력
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles({ "dev", "benchmark" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 조회마다 Repository의 읽기 전용 트랜잭션
+@Testcontainers(disabledWithoutDocker = true)
+@Import(JpaConfig.class)
+class UserProjectionBenchmark {
+
+    private static final int USERS = Benchmark.intProperty("users", 100_000);
+    private static final int LOOKUPS = Benchmark.intProperty("lookups", 10_000);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean seeded;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            BenchmarkUsers.insert(jdbcTemplate, USERS);
+            seeded = true;
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void entityVersusProjectionLookup() throws Exception {
+        Benchmark.Task entity = () -> assertThat(userRepository.findByEmailAndDeletedFalse(randomEmail())
+                .map(UserSnapshot::from)).isPresent();
+        Benchmark.Task projection = () -> assertThat(userRepository.findSnapshotByEmail(randomEmail())).isPresent();
+
+        List<Benchmark.Result> results = new ArrayList<>();
+        List<String> reports = new ArrayList<>();
+
+        results.add(Benchmark.measure("엔티티 + UserSnapshot.from", LOOKUPS / 10, LOOKUPS, entity));
+        reports.add(profile("엔티티 + UserSnapshot.from", entity));
+
+        results.add(Benchmark.measure("프로젝션 (findSnapshotByEmail)", LOOKUPS / 10, LOOKUPS, projection));
+        reports.add(profile("프로젝션 (findSnapshotByEmail)", projection));
+
+        Benchmark.print("이메일로 사용자 조회 " + LOOKUPS + "회 (users=" + USERS + ")", results);
+        reports.forEach(System.out::println);
+    }
+
+    /**
+     * LOOKUPS회 조회하면서 조회 1건당 할당 바이트와 Hibernate Statistics 기록
+     */
+    private String profile(String name, Benchmark.Task lookup) throws Exception {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        statistics.clear();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookup.run();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return String.format(
+                "%s: 조회당 할당 %,d bytes, 엔티티 로드 %,d건, 2차 캐시 저장 %,d건, 쿼리 %,d건, JDBC statement %,d건",
+                name, allocated / LOOKUPS, statistics.getEntityLoadCount(),
+                statistics.getSecondLevelCachePutCount(), statistics.getQueryExecutionCount(),
+                statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * BenchmarkUsers가 만든 사용자 중 무작위 1명의 이메일
+     */
+    private static String randomEmail() {
+        return "user" + ThreadLocalRandom.current().nextInt(1, USERS + 1) + "@bench.test";
+    }
+}
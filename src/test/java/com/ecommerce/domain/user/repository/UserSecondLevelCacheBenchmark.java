@@ -0,0 +1,133 @@
+package com.ecommerce.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.global.config.JpaConfig;
+import com.ecommerce.support.Benchmark;
+import com.ecommerce.support.BenchmarkUsers;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * publicId로 사용자 조회: 2차 캐시 miss vs hit (PostgreSQL, 기본 10만 명)
+ *
+ * 실행: ./gradlew benchmark --tests '*UserSecondLevelCacheBenchmark'
+ *       (-Pbenchmark.users=100000 -Pbenchmark.lookups=5000 처럼 조절)
+ *
+ * - 같은 사용자 LOOKUPS명을 두 번 조회 (findByPublicIdAndDeletedFalse, 트랜잭션 없음)
+ * - 1회차: 캐시가 비어 있음 → 사용자마다 publicId → id, 엔티티 쿼리
+ * - 2회차: natural-id / 엔티티 리전 hit → JDBC statement 0건이어야 함
+ * - 회차마다 Hibernate Statistics (JDBC statement, 2차 캐시 hit/miss/put)를 출력
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles({ "dev", "benchmark" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // UserCache처럼 트랜잭션 없이 조회
+@Testcontainers(disabledWithoutDocker = true)
+@Import(JpaConfig.class)
+class UserSecondLevelCacheBenchmark {
+
+    private static final int USERS = Benchmark.intProperty("users", 100_000);
+    private static final int LOOKUPS = Benchmark.intProperty("lookups", 5_000);
+    // application.conf의 user / user-natural-id 리전 maximum.size
+    private static final int REGION_SIZE = 10_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean seeded;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            BenchmarkUsers.insert(jdbcTemplate, USERS);
+            seeded = true;
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void coldVersusCachedLookup() throws Exception {
+        assertThat(LOOKUPS).as("조회한 사용자가 모두 리전에 남아야 함").isLessThanOrEqualTo(REGION_SIZE);
+
+        List<UUID> publicIds = jdbcTemplate.queryForList(
+                "SELECT public_id FROM users ORDER BY id LIMIT ?", UUID.class, LOOKUPS);
+        assertThat(publicIds).hasSize(LOOKUPS);
+
+        List<Benchmark.Result> results = new ArrayList<>();
+        List<String> reports = new ArrayList<>();
+
+        // 1회차: 캐시 miss
+        statistics.clear();
+        results.add(Benchmark.throughput("캐시 miss (1회차)", LOOKUPS, () -> lookupAll(publicIds)));
+        long coldStatements = statistics.getPrepareStatementCount();
+        reports.add(report("캐시 miss (1회차)"));
+
+        assertThat(coldStatements).as("miss마다 쿼리 실행").isGreaterThanOrEqualTo(LOOKUPS);
+        assertThat(statistics.getSecondLevelCachePutCount()).as("조회한 엔티티를 리전에 저장").isGreaterThanOrEqualTo(LOOKUPS);
+
+        // 2회차: 같은 사용자 → 캐시 hit
+        statistics.clear();
+        results.add(Benchmark.throughput("캐시 hit (2회차)", LOOKUPS, () -> lookupAll(publicIds)));
+        reports.add(report("캐시 hit (2회차)"));
+
+        assertThat(statistics.getPrepareStatementCount()).as("hit이면 SQL 없음").isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(LOOKUPS);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(LOOKUPS);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+
+        Benchmark.print("publicId로 사용자 조회 " + LOOKUPS + "회 (users=" + USERS + ")", results);
+        reports.forEach(System.out::println);
+    }
+
+    private void lookupAll(List<UUID> publicIds) {
+        for (UUID publicId : publicIds) {
+            assertThat(userRepository.findByPublicIdAndDeletedFalse(publicId)).isPresent();
+        }
+    }
+
+    private String report(String name) {
+        return String.format(
+                "%s: JDBC statement %,d건, 2차 캐시 hit %,d건 / miss %,d건 / 저장 %,d건, natural-id 캐시 hit %,d건",
+                name, statistics.getPrepareStatementCount(), statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount(),
+                statistics.getNaturalIdCacheHitCount());
+    }
+}
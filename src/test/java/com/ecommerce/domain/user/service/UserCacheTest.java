@@ -0,0 +1,231 @@
+package com.ecommerce.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.domain.user.entity.Role;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * UserCache 무효화 / 로드 병합 테스트 (Redis 컨테이너)
+ *
+ * 서버 2대를 UserCache 인스턴스 2개로 흉내냅니다. (같은 Redis, 각자 구독, DB는 mock)
+ * - 무효화와 겹친 로드가 이전 스냅샷을 로컬 / Redis에 다시 저장하지 않는지 (generation, 무효화 표시)
+ * - 같은 키를 동시에 찾으면 DB 조회가 1번으로 합쳐지는지 (single-flight)
+ * - 다른 서버의 무효화가 채널로 전파되어 로컬 캐시와 Hibernate 2차 캐시에서 제거되는지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final int THREADS = 8;
+
+    private static final UserSnapshot USER = new UserSnapshot(
+            42L, "0190a3c4-5e6f-7a8b-9c0d-1e2f3a4b5c6d", "cache@example.com", "캐시", Role.USER,
+            LocalDateTime.of(2025, 1, 1, 0, 0));
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisTemplate<String, Object> redisObjectTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+    private ExecutorService executor;
+
+    private UserRepository repositoryA;
+    private UserRepository repositoryB;
+    private jakarta.persistence.Cache secondLevelCacheB;
+    private MeterRegistry meterRegistryA;
+
+    private UserCache serverA;
+    private UserCache serverB;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        redisObjectTemplate = objectTemplate(connectionFactory);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        executor = Executors.newFixedThreadPool(THREADS);
+
+        repositoryA = mock(UserRepository.class);
+        repositoryB = mock(UserRepository.class);
+        secondLevelCacheB = mock(jakarta.persistence.Cache.class);
+        meterRegistryA = new SimpleMeterRegistry();
+
+        serverA = new UserCache(repositoryA, entityManagerFactory(mock(jakarta.persistence.Cache.class)),
+                redisObjectTemplate, redisTemplate, listenerContainer, meterRegistryA);
+        serverB = new UserCache(repositoryB, entityManagerFactory(secondLevelCacheB),
+                redisObjectTemplate, redisTemplate, listenerContainer, new SimpleMeterRegistry());
+        serverA.subscribe();
+        serverB.subscribe();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("로드 중에 무효화되면 읽은 스냅샷을 로컬 / Redis에 저장하지 않음")
+    void loadRacingInvalidationIsNotCached() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repositoryA.findSnapshotByEmail(USER.email())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            return Optional.of(USER); // 무효화 전에 읽은 값
+        });
+
+        Future<Optional<UserSnapshot>> load = executor.submit(() -> serverA.findByEmail(USER.email()));
+        assertThat(loading.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+        // DB를 읽은 뒤, 캐시에 저장하기 전에 수정이 커밋됨
+        serverA.invalidate(USER.id(), USER.publicId(), USER.email());
+        release.countDown();
+
+        // 로드를 요청한 쪽은 읽은 값을 받음
+        assertThat(load.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).contains(USER);
+
+        // Redis: 무효화 표시가 있으므로 WRITE_SCRIPT가 저장하지 않음
+        assertThat(redisTemplate.hasKey("USER:invalidated:" + USER.publicId())).isTrue();
+        assertThat(redisTemplate.hasKey("USER:email:" + USER.email())).isFalse();
+        assertThat(redisTemplate.hasKey("USER:pid:" + USER.publicId())).isFalse();
+
+        // 로컬: generation이 바뀌었으므로 저장하지 않음
+        assertThat(localCache(serverA).getIfPresent("email:" + USER.email())).isNull();
+        assertThat(localCache(serverA).getIfPresent("pid:" + USER.publicId())).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 찾으면 DB 조회는 1번 (나머지는 결과를 기다림)")
+    void concurrentMissesAreCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(repositoryA.findSnapshotByEmail(USER.email())).thenAnswer(invocation -> {
+            release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            return Optional.of(USER);
+        });
+
+        List<Future<Optional<UserSnapshot>>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> serverA.findByEmail(USER.email())));
+        }
+
+        // 첫 요청이 DB를 조회하는 동안 나머지는 모두 그 결과를 기다림
+        await().atMost(TIMEOUT).until(() -> meterRegistryA.counter("user_cache.coalesced").count() == THREADS - 1);
+        release.countDown();
+
+        for (Future<Optional<UserSnapshot>> result : results) {
+            assertThat(result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).contains(USER);
+        }
+        verify(repositoryA, times(1)).findSnapshotByEmail(USER.email());
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화가 전파되어 로컬 캐시와 Hibernate 2차 캐시에서 제거됨")
+    void remoteInvalidationEvictsLocalAndSecondLevelCache() {
+        when(repositoryB.findSnapshotByEmail(USER.email())).thenReturn(Optional.of(USER));
+        assertThat(serverB.findByEmail(USER.email())).contains(USER);
+        assertThat(localCache(serverB).getIfPresent("email:" + USER.email())).isEqualTo(USER);
+
+        // 구독은 비동기로 시작되므로 메시지가 도착할 때까지 다시 무효화
+        await().atMost(TIMEOUT).untilAsserted(() -> {
+            serverA.invalidate(USER.id(), USER.publicId(), USER.email());
+            verify(secondLevelCacheB, timeout(200).atLeastOnce()).evict(User.class, USER.id());
+        });
+        await().atMost(TIMEOUT).until(() -> localCache(serverB).getIfPresent("email:" + USER.email()) == null);
+        assertThat(localCache(serverB).getIfPresent("pid:" + USER.publicId())).isNull();
+    }
+
+    /**
+     * RedisConfig.redisObjectTemplate과 같은 직렬화 (UserSnapshot → JSON)
+     */
+    private static RedisTemplate<String, Object> objectTemplate(LettuceConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new GenericJackson2JsonRedisSerializer()
+                .configure(objectMapper -> objectMapper
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)));
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * 2차 캐시와 IN 개수 제한(0: 제한 없음)만 제공하는 EntityManagerFactory
+     */
+    private static EntityManagerFactory entityManagerFactory(jakarta.persistence.Cache secondLevelCache) {
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, RETURNS_DEEP_STUBS);
+        when(sessionFactory.getJdbcServices().getDialect().getInExpressionCountLimit()).thenReturn(0);
+
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        return entityManagerFactory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<String, UserSnapshot> localCache(UserCache userCache) {
+        return (Cache<String, UserSnapshot>) ReflectionTestUtils.getField(userCache, "local");
+    }
+}
@@ -0,0 +1,275 @@
+package com.ecommerce.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.global.common.UuidV7;
+import com.ecommerce.global.config.JpaConfig;
+import com.ecommerce.support.Benchmark;
+import com.ecommerce.support.BenchmarkUsers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * 관리자 사용자 목록 벤치마크 (PostgreSQL, 기본 1,000만 명)
+ *
+ * 실행: ./gradlew benchmark --tests '*UserListingBenchmark' (-Pbenchmark.users=1000000)
+ *
+ * 1. 페이지 깊이별 조회 시간: keyset(findPage + 커서) vs OFFSET
+ *    → keyset은 깊이와 무관하게 일정, OFFSET은 건너뛴 행 수만큼 느려짐
+ * 2. NDJSON 전체 스트리밍: 처리량 + 스트리밍 중 힙 사용량 최대치
+ *    → 사용자 수와 무관하게 힙이 일정한지 확인
+ * 3. public_id 인덱스: varchar(36) + 랜덤 UUID(v4) vs native uuid + UUIDv7
+ *    → 같은 행 수(-Pbenchmark.public-ids, 기본 users)를 넣을 때 INSERT 처리량과 pg_relation_size
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles({ "dev", "benchmark" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ JpaConfig.class, UserService.class, UserListingBenchmark.Config.class })
+class UserListingBenchmark {
+
+    private static final int USERS = Benchmark.intProperty("users", 10_000_000);
+    private static final int PAGE_SIZE = 100;
+    private static final int PUBLIC_IDS = Benchmark.intProperty("public-ids", USERS);
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean seeded;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().registerModule(new JavaTimeModule());
+        }
+    }
+
+    @MockitoBean
+    private UserCache userCache;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            BenchmarkUsers.insert(jdbcTemplate, USERS);
+            seeded = true;
+        }
+    }
+
+    @Test
+    void keysetVersusOffsetByDepth() throws Exception {
+        List<Benchmark.Result> results = new ArrayList<>();
+
+        for (int offset : depths()) {
+            String cursor = offset == 0 ? null : cursorAt(offset - 1);
+            results.add(Benchmark.measure("keyset  offset=" + offset, 5, 30,
+                    () -> assertThat(userService.findPage(cursor, PAGE_SIZE).getUsers()).hasSize(PAGE_SIZE)));
+            results.add(Benchmark.measure("OFFSET  offset=" + offset, 2, 10,
+                    () -> assertThat(offsetPage(offset)).hasSize(PAGE_SIZE)));
+        }
+
+        Benchmark.print("사용자 목록 " + PAGE_SIZE + "건 조회 (users=" + USERS + ")", results);
+    }
+
+    @Test
+    void streamAllAsNdjson() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+        HeapSampler heap = new HeapSampler();
+
+        heap.start();
+        Benchmark.Result result = Benchmark.throughput("NDJSON 전체", USERS,
+                () -> assertThat(userService.writeAllAsNdjson(out)).isEqualTo(USERS));
+        long peakHeap = heap.stop();
+
+        Benchmark.print("NDJSON 스트리밍 (users=" + USERS + ")", List.of(result));
+        System.out.printf("출력 %,d bytes, 스트리밍 중 힙 사용량 최대 %,d MB (시작 시 %,d MB)%n",
+                out.bytes, peakHeap / (1024 * 1024), heap.baseline / (1024 * 1024));
+    }
+
+    @Test
+    void publicIdIndexSizeAndInsertRate() throws Exception {
+        List<Benchmark.Result> results = new ArrayList<>();
+        List<String> sizes = new ArrayList<>();
+        sizes.add(String.format("users.public_id (uuid, 시드 데이터 v4 %,d건): 인덱스 %,d bytes",
+                USERS, publicIdIndexSize("users")));
+
+        results.add(insertPublicIds("public_id_bench_varchar", "varchar(36)",
+                "varchar(36) + 랜덤 UUID", () -> UUID.randomUUID().toString(), sizes));
+        results.add(insertPublicIds("public_id_bench_uuid_v7", "uuid",
+                "uuid + UUIDv7", UuidV7::generate, sizes));
+
+        Benchmark.print("public_id INSERT (" + PUBLIC_IDS + "건, 배치 " + INSERT_BATCH_SIZE + ")", results);
+        sizes.forEach(System.out::println);
+    }
+
+    /**
+     * public_id 컬럼 1개 + unique 인덱스만 있는 테이블에 PUBLIC_IDS건 INSERT 후 인덱스 크기 기록
+     */
+    private Benchmark.Result insertPublicIds(String table, String columnType, String name,
+            Supplier<Object> publicIds, List<String> sizes) throws Exception {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (public_id " + columnType + " NOT NULL UNIQUE)");
+
+        String sql = "INSERT INTO " + table + " (public_id) VALUES (?)";
+        Benchmark.Result result = Benchmark.throughput(name, PUBLIC_IDS, () -> {
+            for (int from = 0; from < PUBLIC_IDS; from += INSERT_BATCH_SIZE) {
+                List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+                for (int i = from; i < Math.min(PUBLIC_IDS, from + INSERT_BATCH_SIZE); i++) {
+                    batch.add(new Object[] { publicIds.get() });
+                }
+                jdbcTemplate.batchUpdate(sql, batch);
+            }
+        });
+
+        sizes.add(String.format("%s: 인덱스 %,d bytes", name, publicIdIndexSize(table)));
+        jdbcTemplate.execute("DROP TABLE " + table);
+        return result;
+    }
+
+    /**
+     * public_id 컬럼 하나로 만든 인덱스의 크기 (pg_relation_size)
+     */
+    private long publicIdIndexSize(String table) {
+        return jdbcTemplate.queryForObject("""
+                SELECT pg_relation_size(i.indexrelid)
+                FROM pg_index i
+                JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                WHERE i.indrelid = ?::regclass AND i.indnatts = 1 AND a.attname = 'public_id'
+                """, Long.class, table);
+    }
+
+    /**
+     * 측정할 깊이 (건너뛸 행 수): 첫 페이지, 1만, 100만, 끝부분
+     */
+    private static List<Integer> depths() {
+        List<Integer> depths = new ArrayList<>(List.of(0));
+        for (int offset : new int[] { 10_000, 1_000_000, USERS / 10 * 9 }) {
+            if (offset + PAGE_SIZE <= USERS && !depths.contains(offset)) {
+                depths.add(offset);
+            }
+        }
+        return depths;
+    }
+
+    /**
+     * offset번째 사용자를 가리키는 커서 (그 다음 행부터 조회)
+     */
+    private String cursorAt(int offset) {
+        return jdbcTemplate.queryForObject("""
+                SELECT created_at, id FROM users WHERE deleted = false
+                ORDER BY created_at DESC, id DESC OFFSET ? LIMIT 1
+                """,
+                (rs, rowNum) -> new UserPageCursor(rs.getObject("created_at", Timestamp.class).toLocalDateTime(),
+                        rs.getLong("id")).encode(),
+                offset);
+    }
+
+    /**
+     * 비교 대상: OFFSET 페이지네이션 (같은 컬럼, 같은 정렬)
+     */
+    private List<Long> offsetPage(int offset) {
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM (
+                    SELECT id, public_id, email, name, role, created_at FROM users WHERE deleted = false
+                    ORDER BY created_at DESC, id DESC OFFSET ? LIMIT ?
+                ) page
+                """, Long.class, offset, PAGE_SIZE);
+    }
+
+    /**
+     * 출력 크기만 세는 스트림 (네트워크 대신)
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            bytes += len;
+        }
+    }
+
+    /**
+     * 힙 사용량 최대치 샘플링 (20ms 간격)
+     */
+    private static class HeapSampler {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final AtomicLong peak = new AtomicLong();
+        private volatile boolean running;
+        private long baseline;
+        private Thread thread;
+
+        void start() {
+            System.gc();
+            baseline = memory.getHeapMemoryUsage().getUsed();
+            running = true;
+            thread = Thread.ofPlatform().daemon().start(() -> {
+                while (running) {
+                    peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        long stop() throws InterruptedException {
+            running = false;
+            thread.join();
+            return peak.get();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.ecommerce.global.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.global.config.JpaConfig;
+import com.ecommerce.support.Benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * 엔티티 INSERT 처리량: IDENTITY vs SEQUENCE(pooled-lo) + JDBC 배치 (PostgreSQL, 기본 10만 건)
+ *
+ * 실행: ./gradlew benchmark --tests '*IdGenerationBenchmark' (-Pbenchmark.rows=100000)
+ *
+ * - IDENTITY: INSERT를 실행해야 ID를 알 수 있음 → persist()마다 INSERT 1번 (배치 불가)
+ * - SEQUENCE + pooled-lo: nextval 1번에 ID ID_ALLOCATION_SIZE개 → flush 때 batch_size개씩 배치 INSERT
+ * - 두 엔티티는 이 벤치마크 전용 (운영 엔티티와 같은 설정: application.yml의 batch_size, pooled-lo)
+ * - dev 프로필처럼 reWriteBatchedInserts=true로 연결 (배치를 다중 VALUES INSERT 1개로 전송)
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles({ "dev", "benchmark" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(JpaConfig.class)
+class IdGenerationBenchmark {
+
+    private static final int ROWS = Benchmark.intProperty("rows", 100_000);
+    // 트랜잭션 1번에 저장하는 엔티티 수 (영속성 컨텍스트가 커지지 않도록 나눠서 커밋)
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withUrlParam("reWriteBatchedInserts", "true");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void identityVersusPooledLoSequence() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        List<Benchmark.Result> results = new ArrayList<>();
+        List<String> statements = new ArrayList<>();
+
+        statistics.clear();
+        results.add(Benchmark.throughput("IDENTITY", ROWS, () -> insert(IdentityRow::new)));
+        statements.add(String.format("IDENTITY: JDBC statement %,d건", statistics.getPrepareStatementCount()));
+
+        statistics.clear();
+        results.add(Benchmark.throughput("SEQUENCE pooled-lo + 배치", ROWS, () -> insert(SequenceRow::new)));
+        statements.add(String.format("SEQUENCE pooled-lo + 배치: JDBC statement %,d건 (nextval 포함)",
+                statistics.getPrepareStatementCount()));
+
+        assertThat(count("id_bench_identity_rows")).isEqualTo(ROWS);
+        assertThat(count("id_bench_sequence_rows")).isEqualTo(ROWS);
+
+        Benchmark.print("엔티티 INSERT " + ROWS + "건 (트랜잭션당 " + ROWS_PER_TRANSACTION + "건)", results);
+        statements.forEach(System.out::println);
+    }
+
+    /**
+     * ROWS개 엔티티를 ROWS_PER_TRANSACTION개씩 persist (커밋 시 flush)
+     */
+    private void insert(RowFactory factory) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < ROWS; from += ROWS_PER_TRANSACTION) {
+            int to = Math.min(ROWS, from + ROWS_PER_TRANSACTION);
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < to; i++) {
+                    entityManager.persist(factory.create("row-" + i));
+                }
+            });
+        }
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+
+    @FunctionalInterface
+    private interface RowFactory {
+        Object create(String payload);
+    }
+
+    @Entity
+    @Table(name = "id_bench_identity_rows")
+    static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String payload;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(String payload) {
+            this.payload = payload;
+        }
+    }
+
+    @Entity
+    @Table(name = "id_bench_sequence_rows")
+    static class SequenceRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "id_bench_sequence_rows_seq")
+        @SequenceGenerator(name = "id_bench_sequence_rows_seq", sequenceName = "id_bench_sequence_rows_seq",
+                allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
+        private Long id;
+
+        private String payload;
+
+        protected SequenceRow() {
+        }
+
+        SequenceRow(String payload) {
+            this.payload = payload;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 복제 지연 쿼리 테스트 (PostgreSQL 컨테이너)
+ *
+ * 복제본을 띄우지 않으므로 primary에서 실행했을 때 0이 나오는지만 확인합니다.
+ * (PostgreSQL은 실행하지 않는 CASE 분기도 파싱 / 타입 검사를 하므로 쿼리 오류는 여기서 걸림)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaLagQueryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    @DisplayName("primary에서는 지연 0")
+    void primaryReportsNoLag() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+
+        Double lag = jdbcTemplate.queryForObject(ReplicaDataSourceProperties.POSTGRESQL_LAG_QUERY, Double.class);
+
+        assertThat(lag).isZero();
+    }
+}
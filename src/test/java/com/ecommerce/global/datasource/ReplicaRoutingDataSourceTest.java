@@ -0,0 +1,166 @@
+package com.ecommerce.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 읽기 복제본 라우팅 테스트 (H2)
+ *
+ * primary, replica-1, replica-2를 서로 다른 메모리 DB로 띄우고
+ * 각 DB의 replica_marker에 자기 이름을 넣어 둡니다.
+ * → 트랜잭션 안에서 SELECT name FROM replica_marker 결과로 실제로 어느 DB에서 읽었는지 확인
+ *
+ * 구성은 ReplicaDataSourceConfig와 같음
+ * (LazyConnectionDataSourceProxy + readOnlyDataSource = ReplicaRoutingDataSource)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String MARKER_QUERY = "SELECT name FROM replica_marker";
+    private static final String LAG_QUERY = "SELECT lag_seconds FROM replica_marker";
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final List<String> replicaUrls = new ArrayList<>();
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 DB (지연 설정, 닫힌 풀이 다음 테스트에 남지 않도록)
+        String suffix = UUID.randomUUID().toString();
+
+        HikariDataSource primary = pool("primary", "jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1", false);
+        new JdbcTemplate(primary).execute(
+                "CREATE TABLE replica_marker (name VARCHAR(50) PRIMARY KEY, lag_seconds DOUBLE PRECISION)");
+        new JdbcTemplate(primary).update("INSERT INTO replica_marker VALUES ('primary', 0)");
+
+        List<HikariDataSource> replicas = List.of(
+                replica("replica-1", "replica1-" + suffix),
+                replica("replica-2", "replica2-" + suffix));
+
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setLagQuery(LAG_QUERY);
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setStrategy(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, properties, new SimpleMeterRegistry());
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routingDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        // 복제본 풀은 처음 커넥션을 요청할 때 열리므로 (DB도 그때 생성) 상태 확인 1번으로 미리 열어 둠
+        routingDataSource.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본을 번갈아 사용")
+    void readOnlyTransactionsUseReplicas() {
+        List<String> readFrom = List.of(readOnly(), readOnly(), readOnly(), readOnly());
+
+        assertThat(readFrom)
+                .containsOnly("replica-1", "replica-2")
+                .contains("replica-1", "replica-2");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 사용")
+    void writeTransactionsUsePrimary() {
+        String readFrom = writeTransaction.execute(status -> jdbcTemplate.queryForObject(MARKER_QUERY, String.class));
+
+        assertThat(readFrom).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("모든 복제본이 지연 초과면 primary로 폴백, 회복되면 다시 복제본")
+    void laggingReplicasFallBackToPrimary() {
+        setLag(30);
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnly()).isEqualTo("primary");
+
+        setLag(0);
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnly()).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("모든 복제본에 연결할 수 없으면 primary로 폴백")
+    void unreachableReplicasFallBackToPrimary() {
+        pools.stream()
+                .filter(pool -> pool.getPoolName().startsWith("replica-"))
+                .forEach(HikariDataSource::close);
+        routingDataSource.checkReplicas();
+
+        assertThat(readOnly()).isEqualTo("primary");
+    }
+
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(MARKER_QUERY, String.class));
+    }
+
+    /**
+     * 복제 지연 흉내 (복제본 DB의 replica_marker.lag_seconds 변경)
+     */
+    private void setLag(double seconds) {
+        for (String url : replicaUrls) {
+            new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""))
+                    .update("UPDATE replica_marker SET lag_seconds = ?", seconds);
+        }
+    }
+
+    /**
+     * application-replica.yml과 같은 방식: 커넥션을 열 때 스키마 생성 + 자기 이름 기록
+     */
+    private HikariDataSource replica(String name, String database) {
+        replicaUrls.add("jdbc:h2:mem:" + database);
+        return pool(name, "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1"
+                + ";INIT=RUNSCRIPT FROM 'classpath:db/replica/h2-replica-init.sql'"
+                + "\\;INSERT INTO replica_marker SELECT '" + name + "', 0"
+                + " WHERE NOT EXISTS (SELECT 1 FROM replica_marker)", true);
+    }
+
+    private HikariDataSource pool(String name, String url, boolean readOnly) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername("sa");
+        pool.setPassword("");
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(1_000);
+        pool.setReadOnly(readOnly);
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,191 @@
+package com.ecommerce.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.domain.user.entity.Role;
+import com.ecommerce.domain.user.entity.User;
+import com.ecommerce.domain.user.repository.UserRepository;
+import com.ecommerce.domain.user.service.UserCache;
+import com.ecommerce.domain.user.service.UserService;
+import com.ecommerce.global.config.JpaConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * 읽기 복제본 라우팅 테스트 (JPA, local + replica 프로필)
+ *
+ * 애플리케이션과 같은 경로(JpaTransactionManager + Hibernate + LazyConnectionDataSourceProxy)로
+ * 서비스 / Repository 조회가 실제로 복제본에 도착하는지 확인합니다.
+ *
+ * 확인 방법:
+ * - primary에만 사용자를 저장 (H2 복제본에는 복제되지 않음)
+ * - 복제본에서 읽으면 사용자가 안 보이고, primary에서 읽으면 보임
+ * - 복제본의 replica_marker에는 자기 이름이 들어 있음 (primary에는 테이블 없음)
+ */
+@DataJpaTest(properties = {
+        // 다른 테스트의 local 프로필 DB(mem:ecommerce)와 섞이지 않도록 primary만 분리
+        "spring.datasource.url=jdbc:h2:mem:replica-routing-primary;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles({ "local", "replica" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 테스트 트랜잭션 없이 애플리케이션과 같은 조건으로
+@Import({
+        JpaConfig.class,
+        ReplicaDataSourceConfig.class,
+        ReplicaDataSourceProperties.class,
+        UserService.class,
+        ReplicaRoutingJpaTest.Config.class
+})
+class ReplicaRoutingJpaTest {
+
+    private static final String EMAIL = "replica@example.com";
+    private static final List<String> REPLICA_URLS = List.of("jdbc:h2:mem:replica1", "jdbc:h2:mem:replica2");
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().registerModule(new JavaTimeModule());
+        }
+    }
+
+    @MockitoBean
+    private UserCache userCache;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID publicId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.saveAndFlush(User.builder()
+                .email(EMAIL)
+                .password("hashed")
+                .name("복제본")
+                .role(Role.USER)
+                .build());
+        publicId = UUID.fromString(user.getPublicId());
+
+        // 복제본 풀/DB는 처음 커넥션을 요청할 때 생성됨 → 상태 확인으로 미리 열어 둠
+        replicaRoutingDataSource.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        setReplicaLag(0);
+        replicaRoutingDataSource.checkReplicas();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("readOnly 서비스 메서드는 복제본에서 읽음")
+    void readOnlyServiceCallReadsReplica() {
+        // UserService 클래스 레벨 @Transactional(readOnly = true)
+        assertThat(userService.findPage(null, 10).getUsers()).isEmpty();
+
+        String readFrom = readOnly().execute(status -> (String) entityManager
+                .createNativeQuery("SELECT name FROM replica_marker")
+                .getSingleResult());
+        assertThat(readFrom).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 없이 호출한 Repository 조회도 복제본에서 읽음 (UserCache miss, NOT_SUPPORTED 경로)")
+    void repositoryQueriesWithoutTransactionReadReplica() throws IOException {
+        // UserCache miss 시 호출되는 쿼리
+        // (publicId 단건 조회는 저장 시 채워진 2차 캐시에서 바로 나오므로 여기서는 제외)
+        assertThat(userRepository.findSnapshotByEmail(EMAIL)).isEmpty();
+        assertThat(userRepository.findSnapshotsByPublicIds(List.of(publicId))).isEmpty();
+
+        // NDJSON 스트리밍 (NOT_SUPPORTED, 페이지마다 Repository 조회)
+        assertThat(userRepository.findFirstPage(PageRequest.of(0, 10))).isEmpty();
+        assertThat(userService.writeAllAsNdjson(new ByteArrayOutputStream())).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 조회는 primary에서 읽음")
+    void writeTransactionReadsPrimary() {
+        boolean found = new TransactionTemplate(transactionManager)
+                .execute(status -> userRepository.findSnapshotByEmail(EMAIL).isPresent());
+
+        assertThat(found).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 복제본이 제외되면 readOnly 조회도 primary로 폴백")
+    void readOnlyFallsBackToPrimaryWhenReplicasAreDown() {
+        setReplicaLag(60);
+        replicaRoutingDataSource.checkReplicas();
+
+        assertThat(userRepository.findSnapshotByEmail(EMAIL)).isPresent();
+        assertThat(userService.findPage(null, 10).getUsers()).hasSize(1);
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * 복제 지연 흉내 (application-replica.yml의 lag-query가 읽는 값)
+     */
+    private static void setReplicaLag(double seconds) {
+        for (String url : REPLICA_URLS) {
+            new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""))
+                    .update("UPDATE replica_marker SET lag_seconds = ?", seconds);
+        }
+    }
+}
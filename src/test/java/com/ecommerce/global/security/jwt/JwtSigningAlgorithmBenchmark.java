@@ -0,0 +1,83 @@
+package com.ecommerce.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.ecommerce.support.Benchmark;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 서명 알고리즘별 토큰 서명 / 검증 처리량 (HS256 vs ES256 vs Ed25519)
+ *
+ * 실행: ./gradlew benchmark --tests '*JwtSigningAlgorithmBenchmark' (-Pbenchmark.iterations=200000)
+ *
+ * 실제 JwtKeyHolder의 서명 키와 공유 파서(kid → 키링)를 그대로 사용합니다.
+ * (공개키 등록용 Redis는 mock → 순수 서명 / 검증 비용만 측정)
+ */
+@Tag("benchmark")
+class JwtSigningAlgorithmBenchmark {
+
+    private static final int ITERATIONS = Benchmark.intProperty("iterations", 100_000);
+    private static final int WARMUP = ITERATIONS / 5;
+
+    @Test
+    void signAndVerifyThroughputPerAlgorithm() throws Exception {
+        List<Benchmark.Result> results = new ArrayList<>();
+
+        for (JwtSigningAlgorithm algorithm : JwtSigningAlgorithm.values()) {
+            JwtKeyHolder keyHolder = keyHolder(algorithm);
+            JwtSigningKey signingKey = keyHolder.getSigningKey();
+            String token = sign(signingKey);
+
+            results.add(Benchmark.measure(algorithm + " 서명", WARMUP, ITERATIONS, () -> sign(signingKey)));
+            results.add(Benchmark.measure(algorithm + " 검증", WARMUP, ITERATIONS,
+                    () -> keyHolder.getParser().parseSignedClaims(token)));
+
+            assertThat(keyHolder.getParser().parseSignedClaims(token).getPayload().getSubject()).isEqualTo("1");
+        }
+
+        Benchmark.print("JWT 서명 알고리즘별 처리량 (" + ITERATIONS + "회)", results);
+    }
+
+    /**
+     * Access Token과 같은 형태의 토큰 서명
+     */
+    private String sign(JwtSigningKey signingKey) {
+        return signingKey.sign(Jwts.builder()
+                .subject("1")
+                .id("bench-token-id")
+                .claim("auth", "ROLE_USER")
+                .claim("ver", 0L)
+                .expiration(new Date(System.currentTimeMillis() + 1_800_000)))
+                .compact();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JwtKeyHolder keyHolder(JwtSigningAlgorithm algorithm) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-that-is-long-enough-for-hs256-signing");
+        properties.setAccessTokenValidity(1_800_000L);
+        properties.setRefreshTokenValidity(1_209_600_000L);
+        properties.getSigning().setAlgorithm(algorithm);
+
+        JwtKeyHolder keyHolder = new JwtKeyHolder(
+                properties,
+                new VerifiedTokenCache(properties, new SimpleMeterRegistry()),
+                mock(RedisTemplate.class, RETURNS_DEEP_STUBS),
+                new ObjectMapper());
+        keyHolder.init();
+        return keyHolder;
+    }
+}
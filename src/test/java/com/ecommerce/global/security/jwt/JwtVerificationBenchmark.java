@@ -0,0 +1,109 @@
+package com.ecommerce.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.ecommerce.support.Benchmark;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * HS256 Access Token 검증 처리량
+ *
+ * 실행: ./gradlew benchmark --tests '*JwtVerificationBenchmark' (-Pbenchmark.iterations=200000)
+ *
+ * 1. 요청마다 비밀키 변환 + 파서 생성 (이전 방식) vs JwtKeyHolder의 캐시된 키 + 공유 파서
+ * 2. JwtAuthenticationFilter 경로: validateToken + getAuthentication (2회 파싱, 이전 방식)
+ *    vs verifyAccessToken (1회 파싱) vs verifyAccessToken (검증 캐시 hit)
+ *    (블랙리스트, 토큰 버전, Refresh Token 저장소는 mock → 파싱 비용만 비교)
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmark {
+
+    private static final int ITERATIONS = Benchmark.intProperty("iterations", 100_000);
+    private static final int WARMUP = ITERATIONS / 5;
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtProperties properties;
+    private JwtKeyHolder keyHolder;
+    private String token;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenValidity(1_800_000L);
+        properties.setRefreshTokenValidity(1_209_600_000L);
+
+        // HS256 모드에서는 공개키를 등록하지 않으므로 Redis 불필요
+        keyHolder = new JwtKeyHolder(
+                properties,
+                new VerifiedTokenCache(properties, new SimpleMeterRegistry()),
+                mock(RedisTemplate.class),
+                new ObjectMapper());
+        keyHolder.init();
+
+        token = keyHolder.getSigningKey().sign(Jwts.builder()
+                .subject("1")
+                .id("bench-token-id")
+                .claim("auth", "ROLE_USER")
+                .claim("ver", 0L)
+                .expiration(new Date(System.currentTimeMillis() + 1_800_000)))
+                .compact();
+    }
+
+    @Test
+    void cachedKeyAndParserVersusPerCallDerivation() throws Exception {
+        Benchmark.print("HS256 토큰 검증 (" + ITERATIONS + "회)", List.of(
+                Benchmark.measure("요청마다 키 변환 + 파서 생성", WARMUP, ITERATIONS, () -> {
+                    SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+                    Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+                }),
+                Benchmark.measure("캐시된 키 + 공유 파서 (JwtKeyHolder)", WARMUP, ITERATIONS,
+                        () -> keyHolder.getParser().parseSignedClaims(token))));
+    }
+
+    @Test
+    void singleParseVersusDoubleParse() throws Exception {
+        // 검증 캐시 mock (항상 miss) → 매번 파싱
+        JwtTokenProvider uncached = tokenProvider(mock(VerifiedTokenCache.class));
+        JwtTokenProvider cached = tokenProvider(new VerifiedTokenCache(properties, new SimpleMeterRegistry()));
+        assertThat(uncached.verifyAccessToken(token).isValid()).isTrue();
+
+        Benchmark.print("Access Token 검증 + 인증 객체 생성 (" + ITERATIONS + "회)", List.of(
+                Benchmark.measure("validateToken + getAuthentication (2회 파싱)", WARMUP, ITERATIONS, () -> {
+                    if (uncached.validateToken(token)) {
+                        uncached.getAuthentication(token);
+                    }
+                }),
+                Benchmark.measure("verifyAccessToken (1회 파싱)", WARMUP, ITERATIONS,
+                        () -> uncached.verifyAccessToken(token).getAuthentication()),
+                Benchmark.measure("verifyAccessToken (검증 캐시 hit)", WARMUP, ITERATIONS,
+                        () -> cached.verifyAccessToken(token).getAuthentication())));
+    }
+
+    private JwtTokenProvider tokenProvider(VerifiedTokenCache verifiedTokenCache) {
+        return new JwtTokenProvider(
+                properties,
+                keyHolder,
+                verifiedTokenCache,
+                mock(TokenBlacklist.class),
+                mock(TokenVersionStore.class),
+                mock(RefreshTokenStore.class));
+    }
+}
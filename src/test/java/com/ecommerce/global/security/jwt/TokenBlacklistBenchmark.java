@@ -0,0 +1,124 @@
+package com.ecommerce.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.support.Benchmark;
+
+/**
+ * 블랙리스트 조회 지연 시간: 로컬 복제본 vs Redis 직접 조회 (Redis 컨테이너)
+ *
+ * 실행: ./gradlew benchmark --tests '*TokenBlacklistBenchmark'
+ *       (-Pbenchmark.blacklisted=100000 -Pbenchmark.lookups=100000 처럼 조절)
+ *
+ * 1. 조회: 대부분의 요청처럼 블랙리스트에 없는 토큰을 조회
+ *    - 복제본 없음 (동기화 전 = 폴백 모드): 요청마다 Redis EXISTS 왕복
+ *    - 로컬 복제본 (동기화 후): 네트워크 호출 없음
+ * 2. 재적재: blacklisted개 키를 SCAN + PTTL 파이프라인으로 복제본에 채우는 시간
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class TokenBlacklistBenchmark {
+
+    private static final int BLACKLISTED = Benchmark.intProperty("blacklisted", 100_000);
+    private static final int LOOKUPS = Benchmark.intProperty("lookups", 100_000);
+    private static final long TTL_MILLIS = 1_800_000L;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        seedBlacklist();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void lookupLatencyWithAndWithoutLocalReplica() throws Exception {
+        // 구독하지 않은 인스턴스 → 동기화되지 않으므로 항상 Redis 직접 조회
+        TokenBlacklist redisOnly = new TokenBlacklist(redisTemplate, listenerContainer);
+
+        TokenBlacklist replicated = new TokenBlacklist(redisTemplate, listenerContainer);
+        replicated.subscribe();
+        await().atMost(Duration.ofSeconds(60)).until(() -> {
+            replicated.heartbeat();
+            return (Boolean) ReflectionTestUtils.getField(replicated, "synced");
+        });
+        assertThat(replicated.contains("revoked-0")).isTrue();
+
+        Benchmark.Result reload = Benchmark.throughput("재적재 (SCAN + PTTL 파이프라인)", BLACKLISTED,
+                () -> ReflectionTestUtils.invokeMethod(new TokenBlacklist(redisTemplate, listenerContainer), "reload"));
+
+        Benchmark.print("블랙리스트 조회 (blacklisted=" + BLACKLISTED + ", lookups=" + LOOKUPS + ")", List.of(
+                Benchmark.measure("Redis 직접 조회 (복제본 없음)", LOOKUPS / 10, LOOKUPS,
+                        () -> redisOnly.contains(randomTokenId())),
+                Benchmark.measure("로컬 복제본", LOOKUPS / 10, LOOKUPS,
+                        () -> replicated.contains(randomTokenId())),
+                reload));
+    }
+
+    /**
+     * 블랙리스트에 없는 토큰 ID (대부분의 요청)
+     */
+    private static String randomTokenId() {
+        return "active-" + ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * "BL:revoked-{i}" 키 BLACKLISTED개 저장 (파이프라인)
+     */
+    private void seedBlacklist() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        byte[] value = "logout".getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < BLACKLISTED; i++) {
+                connection.stringCommands().pSetEx(("BL:revoked-" + i).getBytes(StandardCharsets.UTF_8),
+                        TTL_MILLIS, value);
+            }
+            return null;
+        });
+    }
+}
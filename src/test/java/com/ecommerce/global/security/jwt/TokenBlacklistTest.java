@@ -0,0 +1,185 @@
+package com.ecommerce.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * TokenBlacklist 동기화 테스트 (Redis 컨테이너)
+ *
+ * 서버 2대를 TokenBlacklist 인스턴스 2개로 흉내냅니다. (같은 Redis, 각자 구독)
+ * - 다른 서버의 등록이 채널로 전파되어 로컬에서 바로 답하는지
+ * - 채널이 끊기면 (heartbeat 정체) Redis 직접 조회로 폴백하는지
+ * - 구독 연결이 끊겼다가 재구독되면 (그 사이 메시지 유실 가능) Redis 직접 조회로 폴백하는지
+ * - 채널이 돌아오면 SCAN으로 다시 채우고 로컬 조회로 복귀하는지
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenBlacklistTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final long TTL_MILLIS = 60_000L;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TokenBlacklist serverA;
+    private TokenBlacklist serverB;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.setRecoveryInterval(100L);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        serverA = new TokenBlacklist(redisTemplate, listenerContainer);
+        serverB = new TokenBlacklist(redisTemplate, listenerContainer);
+        serverA.subscribe();
+        serverB.subscribe();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 등록한 토큰은 채널로 전파되어 Redis 없이 로컬에서 찾음")
+    void publishedTokenIsServedLocally() throws InterruptedException {
+        syncUp(serverB);
+
+        serverA.add("token-1", TTL_MILLIS);
+        await().atMost(TIMEOUT).until(() -> localReplica(serverB).containsKey("token-1"));
+
+        // 원본을 지워도 로컬 복제본으로 답함 (Redis 조회 없음)
+        redisTemplate.delete("BL:token-1");
+        assertThat(serverB.contains("token-1")).isTrue();
+        assertThat(serverB.contains("token-unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("채널 메시지가 끊기면 Redis 직접 조회로 폴백")
+    void staleStreamFallsBackToRedis() throws InterruptedException {
+        syncUp(serverB);
+
+        // 채널을 거치지 않고 Redis에만 있는 토큰 (예: 메시지 유실)
+        redisTemplate.opsForValue().set("BL:token-2", "logout", TTL_MILLIS, TimeUnit.MILLISECONDS);
+
+        // 마지막 메시지가 오래전 → 다음 heartbeat에서 폴백 모드
+        ReflectionTestUtils.setField(serverB, "lastMessageAt", 0L);
+        serverB.heartbeat();
+
+        assertThat(isSynced(serverB)).isFalse();
+        assertThat(serverB.contains("token-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독 연결이 끊겼다가 재구독되면 유실된 등록도 찾음 (Redis 폴백 후 재적재)")
+    void resubscribeFallsBackToRedisAndReloads() throws InterruptedException {
+        syncUp(serverB);
+
+        // 연결이 끊긴 사이 등록되어 메시지가 유실된 토큰
+        redisTemplate.opsForValue().set("BL:token-4", "logout", TTL_MILLIS, TimeUnit.MILLISECONDS);
+        killSubscriptionConnections();
+
+        // 재구독 → 로컬 복제본을 믿지 않고 Redis 직접 조회
+        await().atMost(TIMEOUT).until(() -> !isSynced(serverB));
+        assertThat(serverB.contains("token-4")).isTrue();
+
+        // 재적재 후 로컬 조회로 복귀 (원본을 지워도 로컬에서 찾음)
+        syncUp(serverB);
+        redisTemplate.delete("BL:token-4");
+        assertThat(serverB.contains("token-4")).isTrue();
+    }
+
+    @Test
+    @DisplayName("채널이 다시 살아나면 Redis를 SCAN해서 복제본을 채우고 로컬 조회로 복귀")
+    void resumedStreamReloadsFromRedis() throws InterruptedException {
+        redisTemplate.opsForValue().set("BL:token-3", "logout", TTL_MILLIS, TimeUnit.MILLISECONDS);
+        assertThat(isSynced(serverB)).isFalse();
+
+        syncUp(serverB);
+
+        // SCAN으로 적재된 엔트리 → 원본을 지워도 로컬에서 찾음
+        assertThat(localReplica(serverB)).containsKey("token-3");
+        redisTemplate.delete("BL:token-3");
+        assertThat(serverB.contains("token-3")).isTrue();
+    }
+
+    /**
+     * heartbeat로 PING을 보내고, 돌아온 PING을 받은 뒤 다시 heartbeat → 로컬 조회 모드
+     *
+     * 마지막 heartbeat가 보낸 PING까지 받은 뒤 반환합니다. (이후 테스트가 lastMessageAt을 바꿔도 덮어쓰지 않도록)
+     */
+    private void syncUp(TokenBlacklist blacklist) throws InterruptedException {
+        heartbeatAndAwaitPing(blacklist);
+        heartbeatAndAwaitPing(blacklist);
+        assertThat(isSynced(blacklist)).isTrue();
+    }
+
+    private void heartbeatAndAwaitPing(TokenBlacklist blacklist) throws InterruptedException {
+        // lastMessageAt은 ms 단위 → 이전 메시지와 같은 시각으로 찍히지 않도록
+        Thread.sleep(2);
+        long before = lastMessageAt(blacklist);
+        blacklist.heartbeat();
+        await().atMost(TIMEOUT).until(() -> lastMessageAt(blacklist) > before);
+    }
+
+    /**
+     * Pub/Sub 연결 강제 종료 (네트워크 단절 흉내) → 클라이언트가 재연결 후 재구독
+     */
+    private void killSubscriptionConnections() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("CLIENT",
+                "KILL".getBytes(StandardCharsets.UTF_8),
+                "TYPE".getBytes(StandardCharsets.UTF_8),
+                "pubsub".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static boolean isSynced(TokenBlacklist blacklist) {
+        return (Boolean) ReflectionTestUtils.getField(blacklist, "synced");
+    }
+
+    private static long lastMessageAt(TokenBlacklist blacklist) {
+        return (Long) ReflectionTestUtils.getField(blacklist, "lastMessageAt");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> localReplica(TokenBlacklist blacklist) {
+        return (Map<String, Long>) ReflectionTestUtils.getField(blacklist, "revoked");
+    }
+}
@@ -0,0 +1,167 @@
+package com.ecommerce.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.ecommerce.support.Benchmark;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 토큰 일괄 폐기 처리량 (Redis 컨테이너, 기본 10만 세션)
+ *
+ * 실행: ./gradlew benchmark --tests '*TokenRevocationBenchmark'
+ *       (-Pbenchmark.sessions=100000 -Pbenchmark.sequential-sessions=10000 처럼 조절)
+ *
+ * 1. 기준: 사용자마다 revokeAllSessions(userId) 호출 (사용자당 Redis 왕복 3번)
+ *    → 10만 건은 너무 오래 걸리므로 sequential-sessions만큼만 측정해서 초당 처리량 비교
+ * 2. revokeAllSessions(목록): 1,000명 단위 파이프라인 (INCR + DEL + 전파 1건)
+ * 3. revokeRefreshTokens(목록): DEL 1번에 1,000개 키
+ * 4. revokeAccessTokens(목록): 서명 검증 + SET 파이프라인 + 전파 1건
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class TokenRevocationBenchmark {
+
+    private static final int SESSIONS = Benchmark.intProperty("sessions", 100_000);
+    private static final int SEQUENTIAL_SESSIONS = Benchmark.intProperty("sequential-sessions", 10_000);
+    private static final long TTL_MILLIS = 1_800_000L;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+
+    private JwtKeyHolder keyHolder;
+    private TokenRevocationService revocationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-that-is-long-enough-for-hs256-signing");
+        properties.setAccessTokenValidity(TTL_MILLIS);
+        properties.setRefreshTokenValidity(1_209_600_000L);
+
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(properties, meterRegistry);
+        // HS256 모드에서는 공개키를 등록하지 않으므로 Redis 불필요
+        keyHolder = new JwtKeyHolder(properties, verifiedTokenCache, mock(RedisTemplate.class), new ObjectMapper());
+        keyHolder.init();
+
+        TokenBlacklist tokenBlacklist = new TokenBlacklist(redisTemplate, listenerContainer);
+        tokenBlacklist.subscribe();
+        TokenVersionStore tokenVersionStore = new TokenVersionStore(redisTemplate, listenerContainer, meterRegistry);
+        tokenVersionStore.subscribe();
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(
+                redisTemplate, new ReactiveStringRedisTemplate(connectionFactory), properties, meterRegistry);
+
+        revocationService = new TokenRevocationService(
+                keyHolder, refreshTokenStore, tokenBlacklist, verifiedTokenCache, tokenVersionStore);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void bulkRevocationThroughput() throws Exception {
+        List<Benchmark.Result> results = new ArrayList<>();
+
+        List<String> sequentialIds = userIds(SEQUENTIAL_SESSIONS);
+        seedRefreshTokens(sequentialIds);
+        results.add(Benchmark.throughput("revokeAllSessions(userId) x " + SEQUENTIAL_SESSIONS,
+                SEQUENTIAL_SESSIONS, () -> sequentialIds.forEach(revocationService::revokeAllSessions)));
+
+        List<String> userIds = userIds(SESSIONS);
+        seedRefreshTokens(userIds);
+        results.add(Benchmark.throughput("revokeAllSessions(목록)", SESSIONS,
+                () -> revocationService.revokeAllSessions(userIds)));
+        assertThat(redisTemplate.hasKey("RT:" + userIds.get(0))).isFalse();
+
+        seedRefreshTokens(userIds);
+        long[] deleted = new long[1];
+        results.add(Benchmark.throughput("revokeRefreshTokens(목록)", SESSIONS,
+                () -> deleted[0] = revocationService.revokeRefreshTokens(userIds)));
+        assertThat(deleted[0]).isEqualTo(SESSIONS);
+
+        List<String> accessTokens = accessTokens(userIds);
+        long[] revoked = new long[1];
+        results.add(Benchmark.throughput("revokeAccessTokens(목록)", SESSIONS,
+                () -> revoked[0] = revocationService.revokeAccessTokens(accessTokens)));
+        assertThat(revoked[0]).isEqualTo(SESSIONS);
+
+        Benchmark.print("토큰 일괄 폐기 (sessions=" + SESSIONS + ")", results);
+    }
+
+    private List<String> userIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "bench-user-" + i).toList();
+    }
+
+    /**
+     * 사용자마다 Refresh Token 1개 저장 (파이프라인)
+     */
+    private void seedRefreshTokens(List<String> userIds) {
+        byte[] value = "refresh-token".getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : userIds) {
+                connection.stringCommands().pSetEx(("RT:" + userId).getBytes(StandardCharsets.UTF_8), TTL_MILLIS, value);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 사용자마다 Access Token 1개 발급 (jti 서로 다름)
+     */
+    private List<String> accessTokens(List<String> userIds) {
+        JwtSigningKey signingKey = keyHolder.getSigningKey();
+        Date expiration = new Date(System.currentTimeMillis() + TTL_MILLIS);
+        return userIds.stream()
+                .map(userId -> signingKey.sign(Jwts.builder()
+                        .subject(userId)
+                        .id("jti-" + userId)
+                        .claim("auth", "ROLE_USER")
+                        .expiration(expiration))
+                        .compact())
+                .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.support;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크 측정 도구
+ *
+ * 실행: ./gradlew benchmark (-Pbenchmark.users=1000000 처럼 크기 조절)
+ * - @Tag("benchmark") 테스트만 실행 (일반 ./gradlew test에서는 제외)
+ * - 결과는 표준 출력에 표로 남김 (PR / 문서에 그대로 붙여 넣기)
+ *
+ * 측정 방식:
+ * - measure: warmup회 버린 뒤 iterations회 실행, 1회 시간의 분포 (평균, p50, p99)
+ * - throughput: 한 번 실행해서 operations건 처리 시간 → 초당 처리량
+ */
+public final class Benchmark {
+
+    private static final String PROPERTY_PREFIX = "benchmark.";
+
+    private Benchmark() {
+    }
+
+    /**
+     * 벤치마크 크기 설정 (-Pbenchmark.{name}=값)
+     */
+    public static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(PROPERTY_PREFIX + name, defaultValue);
+    }
+
+    /**
+     * 1회 실행 시간 분포 측정
+     *
+     * @param name       결과 표에 표시할 이름
+     * @param warmup     버리는 실행 횟수 (JIT, 커넥션 풀, DB 버퍼 캐시 워밍업)
+     * @param iterations 측정 횟수
+     * @param task       측정할 작업 (1회 = 1 operation)
+     */
+    public static Result measure(String name, int warmup, int iterations, Task task) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            task.run();
+        }
+
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        return Result.of(name, 1, nanos);
+    }
+
+    /**
+     * 처리량 측정 (한 번 실행)
+     *
+     * @param name       결과 표에 표시할 이름
+     * @param operations 작업 1번에 처리하는 건수 (예: INSERT 행 수)
+     * @param task       측정할 작업
+     */
+    public static Result throughput(String name, long operations, Task task) throws Exception {
+        long start = System.nanoTime();
+        task.run();
+        return Result.of(name, operations, new long[] { System.nanoTime() - start });
+    }
+
+    /**
+     * 결과 표 출력
+     */
+    public static void print(String title, List<Result> results) {
+        StringBuilder table = new StringBuilder()
+                .append('\n').append("== ").append(title).append('\n')
+                .append(String.format("%-48s %12s %10s %10s %10s %14s%n",
+                        "case", "ops", "mean(ms)", "p50(ms)", "p99(ms)", "ops/s"));
+        for (Result result : results) {
+            table.append(String.format("%-48s %12d %10.3f %10.3f %10.3f %14.1f%n",
+                    result.name(), result.totalOperations(), result.meanMillis(),
+                    result.percentileMillis(50), result.percentileMillis(99), result.opsPerSecond()));
+        }
+        System.out.println(table);
+    }
+
+    /**
+     * 측정할 작업 (checked exception 허용)
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * 측정 결과
+     *
+     * @param name             이름
+     * @param operationsPerRun 1회 실행당 처리 건수
+     * @param sortedNanos      1회 실행 시간 (오름차순)
+     */
+    public record Result(String name, long operationsPerRun, long[] sortedNanos) {
+
+        /**
+         * 직접 모은 실행 시간으로 결과 생성 (여러 스레드에서 측정한 경우 등)
+         */
+        public static Result of(String name, long operationsPerRun, long[] nanos) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return new Result(name, operationsPerRun, sorted);
+        }
+
+        public long totalOperations() {
+            return operationsPerRun * sortedNanos.length;
+        }
+
+        public double meanMillis() {
+            return Arrays.stream(sortedNanos).average().orElse(0) / 1_000_000.0;
+        }
+
+        public double percentileMillis(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        public double opsPerSecond() {
+            long total = Arrays.stream(sortedNanos).sum();
+            return total == 0 ? 0 : totalOperations() * 1_000_000_000.0 / total;
+        }
+    }
+}
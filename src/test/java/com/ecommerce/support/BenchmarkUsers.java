@@ -0,0 +1,37 @@
+package com.ecommerce.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 사용자 대량 생성 (PostgreSQL)
+ *
+ * JPA로 1건씩 넣으면 1,000만 건에 몇 시간이 걸리므로 generate_series로 DB 안에서 한 번에 만듭니다.
+ * - id: 1 ~ count (시퀀스는 이후 INSERT와 겹치지 않도록 count 다음으로 맞춤)
+ * - created_at: 10ms 간격 (keyset 커서가 한 행을 가리키도록 서로 다른 값)
+ * - 비밀번호는 해시가 아닌 고정 문자열 (로그인 벤치마크에는 사용하지 않음)
+ */
+public final class BenchmarkUsers {
+
+    private BenchmarkUsers() {
+    }
+
+    /**
+     * users 테이블에 count명 추가 (테이블은 비어 있어야 함)
+     *
+     * @param jdbcTemplate primary DataSource
+     * @param count        생성할 사용자 수
+     */
+    public static void insert(JdbcTemplate jdbcTemplate, int count) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, public_id, email, password, name, role,
+                                   created_at, updated_at, deleted)
+                SELECT g, gen_random_uuid(), 'user' || g || '@bench.test', 'benchmark', 'user' || g, 'USER',
+                       TIMESTAMP '2020-01-01' + g * INTERVAL '10 milliseconds',
+                       TIMESTAMP '2020-01-01' + g * INTERVAL '10 milliseconds',
+                       false
+                FROM generate_series(1, ?) AS g
+                """, count);
+        jdbcTemplate.execute("SELECT setval('users_seq', " + (count + 1) + ", false)");
+        jdbcTemplate.execute("ANALYZE users");
+    }
+}